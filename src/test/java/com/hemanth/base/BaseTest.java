@@ -1,6 +1,7 @@
 package com.hemanth.base;
 
 import com.hemanth.core.RequestFactory;
+import com.hemanth.metrics.RequestMetrics;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 
@@ -11,6 +12,11 @@ public class BaseTest {
     @AfterMethod(alwaysRun = true)
     public void logFailurePayloads(ITestResult result){
         // Hook for attaching request/response if you integrate a reporter later (Allure, Extent)
-
+        if (result.getStatus() == ITestResult.FAILURE) {
+            RequestMetrics.CallRecord lastCall = RequestMetrics.getInstance().getLastCall();
+            if (lastCall != null) {
+                System.out.println("Last request of failed test " + result.getName() + ": " + lastCall);
+            }
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.hemanth.base;
+
+import com.hemanth.config.ConfigManager;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies parallel mode / thread count overrides to every suite before it runs,
+ * e.g. mvn test -Dparallel.thread.count=32 -Ddataprovider.thread.count=16
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigManager config = ConfigManager.getInstance();
+        String parallelMode = config.getParallelMode();
+        Integer threadCount = config.getParallelThreadCount();
+        Integer dataProviderThreadCount = config.getDataProviderThreadCount();
+
+        for (XmlSuite suite : suites) {
+            if (parallelMode != null) {
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallelMode));
+            }
+            if (threadCount != null) {
+                suite.setThreadCount(threadCount);
+            }
+            if (dataProviderThreadCount != null) {
+                suite.setDataProviderThreadCount(dataProviderThreadCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hemanth.base;
+
+import com.hemanth.config.ConfigManager;
+import com.hemanth.metrics.LatencyHistogram;
+import com.hemanth.metrics.RequestMetrics;
+import com.hemanth.metrics.RequestMetrics.EndpointMetrics;
+import com.hemanth.util.JsonUtils;
+import org.HdrHistogram.Histogram;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints a per-endpoint request summary at suite end and exports it as JSON and CSV
+ * to metrics.output.dir (default target/metrics)
+ */
+public class RequestMetricsListener implements ISuiteListener {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    @Override
+    public void onStart(ISuite suite) {
+        RequestMetrics.getInstance().reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> rows = summarize(RequestMetrics.getInstance().getEndpoints());
+        if (rows.isEmpty()) {
+            return;
+        }
+        System.out.println(formatTable(suite.getName(), rows));
+
+        Path outputDir = Paths.get(ConfigManager.getInstance().getMetricsOutputDir());
+        String baseName = suite.getName().replaceAll("[^A-Za-z0-9_-]", "_") + "-request-metrics";
+        try {
+            Files.createDirectories(outputDir);
+            JsonUtils.writePrettyJsonToFile(rows, outputDir.resolve(baseName + ".json").toString());
+            writeCsv(rows, outputDir.resolve(baseName + ".csv"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export request metrics to " + outputDir, e);
+        }
+    }
+
+    private List<Map<String, Object>> summarize(List<EndpointMetrics> endpoints) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (EndpointMetrics endpoint : endpoints) {
+            Histogram latency = endpoint.getLatency();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("method", endpoint.getMethod());
+            row.put("endpoint", endpoint.getEndpoint());
+            row.put("count", endpoint.getCount());
+            row.put("errors", endpoint.getErrorCount());
+            row.put("mean_ms", LatencyHistogram.toMillis((long) latency.getMean()));
+            for (double percentile : PERCENTILES) {
+                row.put(percentileKey(percentile), LatencyHistogram.toMillis(latency.getValueAtPercentile(percentile)));
+            }
+            row.put("max_ms", LatencyHistogram.toMillis(latency.getMaxValue()));
+            row.put("request_bytes", endpoint.getRequestBytes());
+            row.put("response_bytes", endpoint.getResponseBytes());
+            row.put("status_codes", endpoint.getStatusCodes());
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String percentileKey(double percentile) {
+        return percentile == 99.9 ? "p999_ms" : "p" + (int) percentile + "_ms";
+    }
+
+    private String formatTable(String suiteName, List<Map<String, Object>> rows) {
+        StringBuilder sb = new StringBuilder("Request metrics for suite '" + suiteName + "' (ms)\n");
+        sb.append(String.format("%-7s %-36s %8s %6s %9s %9s %9s %9s %9s%n",
+                "method", "endpoint", "count", "errors", "p50", "p90", "p99", "p999", "max"));
+        for (Map<String, Object> row : rows) {
+            sb.append(String.format("%-7s %-36s %8d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("method"), row.get("endpoint"), row.get("count"), row.get("errors"),
+                    row.get("p50_ms"), row.get("p90_ms"), row.get("p99_ms"), row.get("p999_ms"), row.get("max_ms")));
+        }
+        return sb.toString();
+    }
+
+    private void writeCsv(List<Map<String, Object>> rows, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.join(",", rows.get(0).keySet()));
+            writer.write('\n');
+            for (Map<String, Object> row : rows) {
+                List<String> values = new ArrayList<>();
+                for (Object value : row.values()) {
+                    String text = String.valueOf(value);
+                    values.add(text.contains(",") ? "\"" + text + "\"" : text);
+                }
+                writer.write(String.join(",", values));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.hemanth.base;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class RetryAnalyzer implements IRetryAnalyzer {
 
-    private int count = 0;
+    // atomic - retries of the same method can be evaluated from different pool threads
+    private final AtomicInteger count = new AtomicInteger();
     private final int maxRetry = 2;
 
     @Override
     public boolean retry(ITestResult iTestResult) {
-        return count++<maxRetry;
+        return count.getAndIncrement()<maxRetry;
     }
 }
@@ -0,0 +1,58 @@
+package com.hemanth.base;
+
+import com.hemanth.metrics.RequestMetrics;
+import com.hemanth.util.TestDataContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gives every test invocation its own data stream derived from the run seed
+ * ({@link TestDataContext}), and prints how to replay the run when a test fails,
+ * e.g. mvn test -Ddatagen.seed=42
+ */
+public class SeededDataListener implements ISuiteListener, IInvokedMethodListener {
+
+    // method + parameters -> invocations started so far
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        invocations.clear();
+        System.out.println("Test data seed: " + TestDataContext.getRunSeed()
+                + " (replay with -Ddatagen.seed=" + TestDataContext.getRunSeed() + ")");
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            // a failure report must not show a request left over from an earlier test on this thread
+            RequestMetrics.getInstance().clearLastCall();
+            // keyed by method, parameters and an ordinal, not by the thread that happens to run it.
+            // Invocations with equal parameters are interchangeable, so numbering them as they start gives
+            // every run the same keys; the method's shared invocation counter races under threadPoolSize
+            String invocation = testResult.getMethod().getQualifiedName() + Arrays.deepToString(testResult.getParameters());
+            int ordinal = invocations.computeIfAbsent(invocation, key -> new AtomicInteger()).getAndIncrement();
+            TestDataContext.bind(invocation + "#" + ordinal);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE) {
+            System.out.println("Failed test " + testResult.getName() + " used data key '"
+                    + TestDataContext.currentKey() + "', replay with -Ddatagen.seed=" + TestDataContext.getRunSeed());
+        }
+        TestDataContext.unbind();
+    }
+}
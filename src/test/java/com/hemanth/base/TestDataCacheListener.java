@@ -0,0 +1,28 @@
+package com.hemanth.base;
+
+import com.google.common.cache.CacheStats;
+import com.hemanth.util.ParsedDataCache;
+import com.hemanth.util.TestDataManager;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Prints test data cache statistics at suite end: the on-disk {@link ParsedDataCache}
+ * and the in-memory sheet cache of {@link TestDataManager}
+ */
+public class TestDataCacheListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ParsedDataCache dataCache = ParsedDataCache.getInstance();
+        if (dataCache.getHits() + dataCache.getMisses() > 0) {
+            System.out.println(dataCache.getStats());
+        }
+
+        CacheStats sheetStats = TestDataManager.getInstance().getCacheStats();
+        if (sheetStats.requestCount() > 0) {
+            System.out.printf("Sheet cache: %d hits, %d misses, %d evictions%n",
+                    sheetStats.hitCount(), sheetStats.missCount(), sheetStats.evictionCount());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hemanth.base;
+
+import com.hemanth.config.ConfigManager;
+import com.hemanth.core.TokenPool;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Warms up the shared {@link TokenPool} at suite start when token.pool.size > 0,
+ * e.g. mvn test -Pstress -Dtoken.pool.size=5000
+ */
+public class TokenPoolListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigManager.getInstance().getTokenPoolSize() <= 0) {
+            return;
+        }
+        TokenPool pool = TokenPool.fromConfig().warmUp();
+        TokenPool.setShared(pool);
+        System.out.printf("Token pool: signed %d tokens in %.1f ms (%.0f tokens/s)%n",
+                pool.size(), pool.getWarmUpMillis(), pool.getSigningRatePerSecond());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (ConfigManager.getInstance().getTokenPoolSize() <= 0) {
+            return;
+        }
+        TokenPool.getShared().close();
+        TokenPool.setShared(null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.core.HttpClientPool;
+import com.hemanth.mock.MockServer;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares RestAssured's default per-request HttpClient with {@link HttpClientPool} against a local
+ * {@link MockServer}. The pool's reuse counters are printed at the end of the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConnectionPoolBenchmark {
+
+    private MockServer mockServer;
+    private HttpClientPool pool;
+    private RestAssuredConfig defaultConfig;
+    private RestAssuredConfig pooledConfig;
+    private String baseUrl;
+
+    @Setup
+    public void setup() {
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubGet("/api/ping", 200, "{\"status\": \"ok\"}");
+        baseUrl = mockServer.getBaseUrl();
+
+        pool = new HttpClientPool(64, 64, 30_000, 60_000, 10_000);
+        defaultConfig = RestAssured.config();
+        pooledConfig = pool.getRestAssuredConfig();
+    }
+
+    @TearDown
+    public void teardown() {
+        System.out.printf("%nHttpClientPool: %d requests on reused connections, %d new connections, %s%n",
+                pool.getReusedConnections(), pool.getOpenedConnections(), pool.getStats());
+        pool.close();
+        mockServer.stop();
+    }
+
+    @Benchmark
+    public int defaultClient() {
+        return RestAssured.given().config(defaultConfig).baseUri(baseUrl)
+                .get("/api/ping").getStatusCode();
+    }
+
+    @Benchmark
+    public int pooledClient() {
+        return RestAssured.given().config(pooledConfig).baseUri(baseUrl)
+                .get("/api/ping").getStatusCode();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.util.TestDataManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Rows/s writing a large sheet with the in-memory XSSF writer vs the streaming SXSSF writer.
+ * Peak heap of each iteration is printed after it; run with -prof gc for allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@OperationsPerInvocation(ExcelWriteBenchmark.ROWS)
+@State(Scope.Benchmark)
+public class ExcelWriteBenchmark {
+
+    static final int ROWS = 200_000;
+    private static final String SHEET = "Results";
+
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        output = Files.createTempFile("bench-write", ".xlsx");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%n  peak heap: %d MB%n", peak >> 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void xssfInMemory() {
+        List<Map<String, Object>> data = rows().collect(Collectors.toList());
+        TestDataManager.getInstance().writeTestDataToExcel(output.toString(), SHEET, data);
+    }
+
+    @Benchmark
+    public long sxssfStreaming() {
+        return TestDataManager.getInstance().writeTestDataToExcel(output.toString(), SHEET, rows());
+    }
+
+    private static Stream<Map<String, Object>> rows() {
+        return IntStream.range(0, ROWS).mapToObj(i -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", (long) i);
+            row.put("name", "User " + i);
+            row.put("job", i % 2 == 0 ? "QA" : "Dev");
+            row.put("score", i + 0.5);
+            row.put("passed", i % 7 != 0);
+            return row;
+        });
+    }
+}
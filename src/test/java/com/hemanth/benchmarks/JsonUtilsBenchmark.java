@@ -0,0 +1,106 @@
+package com.hemanth.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hemanth.models.ApiResponse;
+import com.hemanth.models.User;
+import com.hemanth.util.JsonUtils;
+import com.hemanth.util.TestDataBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips User, ApiResponse&lt;User&gt; and List&lt;User&gt; with per-call type resolution ("perCall")
+ * versus pre-built readers/writers as cached by {@link JsonUtils} ("cached"), with and without Blackbird
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper mapper;
+    private User user;
+    private ApiResponse<User> apiResponse;
+    private List<User> users;
+
+    private ObjectWriter userWriter;
+    private ObjectReader userReader;
+    private ObjectWriter apiResponseWriter;
+    private ObjectReader apiResponseReader;
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+
+    @Setup
+    public void setup() {
+        mapper = JsonUtils.newObjectMapper(blackbird);
+
+        user = TestDataBuilder.buildFullUser(1, "John Doe", "Software Engineer",
+                "john.doe@example.com", "John", "Doe", "https://example.com/avatar1.jpg");
+        apiResponse = new ApiResponse<>();
+        apiResponse.setData(user);
+        users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            users.add(TestDataBuilder.buildFullUser(i, "User " + i, "Engineer",
+                    "user" + i + "@example.com", "First" + i, "Last" + i, "https://example.com/" + i + ".jpg"));
+        }
+
+        userWriter = mapper.writerFor(User.class);
+        userReader = mapper.readerFor(User.class);
+        apiResponseWriter = mapper.writerFor(new TypeReference<ApiResponse<User>>() {});
+        apiResponseReader = mapper.readerFor(new TypeReference<ApiResponse<User>>() {});
+        listWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, User.class));
+        listReader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, User.class));
+    }
+
+    @Benchmark
+    public User userPerCall() throws Exception {
+        return mapper.readValue(mapper.writeValueAsString(user), User.class);
+    }
+
+    @Benchmark
+    public User userCached() throws Exception {
+        return userReader.readValue(userWriter.writeValueAsString(user));
+    }
+
+    @Benchmark
+    public ApiResponse<User> apiResponsePerCall() throws Exception {
+        return mapper.readValue(mapper.writeValueAsString(apiResponse), new TypeReference<ApiResponse<User>>() {});
+    }
+
+    @Benchmark
+    public ApiResponse<User> apiResponseCached() throws Exception {
+        return apiResponseReader.readValue(apiResponseWriter.writeValueAsString(apiResponse));
+    }
+
+    @Benchmark
+    public List<User> listPerCall() throws Exception {
+        return mapper.readValue(mapper.writeValueAsString(users),
+                mapper.getTypeFactory().constructCollectionType(List.class, User.class));
+    }
+
+    @Benchmark
+    public List<User> listCached() throws Exception {
+        return listReader.readValue(listWriter.writeValueAsString(users));
+    }
+}
@@ -0,0 +1,71 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.config.ConfigManager;
+import com.hemanth.core.TokenManager;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT verification cost: a new parser per call (the old TokenManager behaviour), a shared parser
+ * (cold: signature verified every time) and TokenManager's verified-claims cache (warm)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private SecretKey secretKey;
+    private JwtParser sharedParser;
+    private TokenManager tokenManager;
+    private String token;
+
+    @Setup
+    public void setup() {
+        secretKey = Keys.hmacShaKeyFor(ConfigManager.getInstance().getJwtSecret().getBytes());
+        sharedParser = Jwts.parser().verifyWith(secretKey).build();
+        tokenManager = TokenManager.getInstance();
+        token = tokenManager.signToken("bench-user", "admin").getToken();
+        tokenManager.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims perCallParser() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParserCold() {
+        return sharedParser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims cachedClaimsWarm() {
+        return tokenManager.extractClaims(token);
+    }
+
+    @Benchmark
+    public boolean roleAndExpiryWarm() {
+        // the old code verified the signature twice for this pair
+        return "admin".equals(tokenManager.extractRole(token)) && !tokenManager.isTokenExpired(token);
+    }
+}
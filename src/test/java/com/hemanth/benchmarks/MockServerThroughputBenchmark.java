@@ -0,0 +1,70 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.core.HttpClientPool;
+import com.hemanth.mock.MockServer;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second a local {@link MockServer} sustains with the default and the performance profile.
+ * Clients share one pooled connection manager, so the score (ops/s) is the mock's RPS on this machine.
+ * Re-run with more client threads ({@code -t 64}, {@code -t 128}) until the score stops growing:
+ * that plateau is the maximum sustainable RPS.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class MockServerThroughputBenchmark {
+
+    @Param({"default", "performance"})
+    public String profile;
+
+    private MockServer mockServer;
+    private HttpClientPool pool;
+    private RestAssuredConfig pooledConfig;
+    private String baseUrl;
+
+    @Setup
+    public void setup() {
+        mockServer = "performance".equals(profile)
+                ? MockServer.newPerformanceInstance(0)
+                : MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubGet("/api/ping", 200, "{\"status\": \"ok\"}");
+        baseUrl = mockServer.getBaseUrl();
+
+        pool = new HttpClientPool(256, 256, 30_000, 60_000, 10_000);
+        pooledConfig = pool.getRestAssuredConfig();
+    }
+
+    @TearDown
+    public void teardown() {
+        pool.close();
+        mockServer.stop();
+    }
+
+    @Benchmark
+    public int ping() {
+        return RestAssured.given().config(pooledConfig).baseUri(baseUrl)
+                .get("/api/ping").getStatusCode();
+    }
+}
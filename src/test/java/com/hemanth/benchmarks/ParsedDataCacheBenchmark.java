@@ -0,0 +1,103 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.util.ParsedDataCache;
+import com.hemanth.util.TestDataManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite-startup cost of loading an Excel sheet: POI parse every time (no cache), cold cache
+ * (parse + write entry) and warm cache (mapped read of the entry).
+ * SingleShotTime with a fresh fork per measurement mimics the first load in a new test JVM.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+@State(Scope.Benchmark)
+public class ParsedDataCacheBenchmark {
+
+    private static final String SHEET = "Users";
+
+    @Param({"1000", "20000"})
+    public int rows;
+
+    private Path workbook;
+    private Path cacheDir;
+    private ParsedDataCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workbook = Files.createTempFile("bench-users", ".xlsx");
+        cacheDir = Files.createTempDirectory("bench-testdata-cache");
+        cache = new ParsedDataCache(cacheDir, true);
+
+        List<Map<String, Object>> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", "User " + i);
+            row.put("job", i % 2 == 0 ? "QA" : "Dev");
+            row.put("age", 20L + i % 40);
+            row.put("score", i + 0.5);
+            row.put("active", i % 3 == 0);
+            data.add(row);
+        }
+        TestDataManager.getInstance().writeTestDataToExcel(workbook.toString(), SHEET, data);
+    }
+
+    @Setup(Level.Iteration)
+    public void primeCache() {
+        // every benchmark but coldCache sees a valid entry
+        cache.clear();
+        load();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        cache.clear();
+        Files.deleteIfExists(cacheDir);
+        Files.deleteIfExists(workbook);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> noCache() {
+        return TestDataManager.getInstance().readExcelFile(workbook.toString(), SHEET);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> coldCache() {
+        cache.clear();
+        return load();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> warmCache() {
+        return load();
+    }
+
+    private List<Map<String, Object>> load() {
+        return cache.getOrLoad(workbook, SHEET,
+                () -> TestDataManager.getInstance().readExcelFile(workbook.toString(), SHEET));
+    }
+}
@@ -0,0 +1,58 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.core.PayloadBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random user payloads per second: the old builder shape (a new Random and fresh literal arrays
+ * per builder, "user" + nextInt(1000) emails) vs the pooled ThreadLocalRandom builder with unique ids.
+ * Scores are totals for 4 threads; divide by 4 for payloads per second per thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PayloadBuilderBenchmark {
+
+    @Benchmark
+    public Map<String, Object> legacyRandomUser() {
+        Random random = new Random();
+        Map<String, Object> payload = new HashMap<>();
+        String[] names = {"John Doe", "Jane Smith", "Bob Johnson", "Alice Brown", "Charlie Wilson"};
+        payload.put("name", names[random.nextInt(names.length)]);
+        String[] jobs = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager", "Data Analyst"};
+        payload.put("job", jobs[random.nextInt(jobs.length)]);
+        String[] domains = {"example.com", "test.com", "demo.com", "sample.com"};
+        payload.put("email", "user" + random.nextInt(1000) + "@" + domains[random.nextInt(domains.length)]);
+        String[] firstNames = {"John", "Jane", "Bob", "Alice", "Charlie", "Diana", "Edward", "Fiona"};
+        payload.put("first_name", firstNames[random.nextInt(firstNames.length)]);
+        String[] lastNames = {"Doe", "Smith", "Johnson", "Brown", "Wilson", "Davis", "Miller", "Garcia"};
+        payload.put("last_name", lastNames[random.nextInt(lastNames.length)]);
+        payload.put("avatar", "https://example.com/avatar" + random.nextInt(1000) + ".jpg");
+        return new HashMap<>(payload);
+    }
+
+    @Benchmark
+    public Map<String, Object> pooledRandomUser() {
+        return PayloadBuilder.user().withRandomData().build();
+    }
+
+    @Benchmark
+    public String uniqueId() {
+        return PayloadBuilder.uniqueId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hemanth.benchmarks;
+
+import com.hemanth.core.Specs;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.ResponseSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Compares the cached {@link Specs} registry with building a response spec on every call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecsBenchmark {
+
+    @Benchmark
+    public ResponseSpecification perCallSuccess() {
+        return new ResponseSpecBuilder()
+                .expectStatusCode(anyOf(equalTo(200), equalTo(201), equalTo(204)))
+                .expectContentType(ContentType.JSON)
+                .build();
+    }
+
+    @Benchmark
+    public ResponseSpecification perCallCreated() {
+        return new ResponseSpecBuilder()
+                .expectStatusCode(201)
+                .expectContentType(ContentType.JSON)
+                .build();
+    }
+
+    @Benchmark
+    public ResponseSpecification cachedSuccess() {
+        return Specs.success();
+    }
+
+    @Benchmark
+    public ResponseSpecification cachedCreated() {
+        return Specs.created();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseSpecification perCallSuccessContended() {
+        return perCallSuccess();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseSpecification cachedSuccessContended() {
+        return Specs.success();
+    }
+}
@@ -2,67 +2,73 @@ package com.hemanth.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
- * Singleton Configuration Manager for centralized configuration management
+ * Singleton Configuration Manager for centralized configuration management.
+ * Safe to share across parallel test threads: the loaded properties are never mutated,
+ * {@link #reload()} swaps in a freshly loaded copy.
  */
 public class ConfigManager {
     
-    private static ConfigManager instance;
-    private Properties properties;
+    private volatile Properties properties;
     private static final String CONFIG_FILE = "config/qa.properties";
     
     // Private constructor to prevent instantiation
     private ConfigManager() {
-        loadProperties();
+        this.properties = loadProperties();
+    }
+    
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
     }
     
     /**
      * Get singleton instance
      */
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
-        }
-        return instance;
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
     }
     
     /**
      * Load properties from configuration file
      */
-    private void loadProperties() {
-        properties = new Properties();
+    private Properties loadProperties() {
+        Properties loaded = new Properties();
         try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CONFIG_FILE)) {
             if (inputStream != null) {
-                properties.load(inputStream);
+                loaded.load(inputStream);
             } else {
                 throw new RuntimeException("Configuration file not found: " + CONFIG_FILE);
             }
         } catch (IOException e) {
             throw new RuntimeException("Failed to load configuration file", e);
         }
+        return loaded;
     }
     
     /**
-     * Get property value
+     * Get property value (a JVM system property with the same key takes precedence)
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
     }
     
     /**
      * Get property value with default
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
     
     /**
-     * Get base URL
+     * Get base URL (base.uri, as defined in the environment properties; base.url is still honoured)
      */
     public String getBaseUrl() {
-        return getProperty("base.url");
+        return getProperty("base.url", getProperty("base.uri"));
     }
     
     /**
@@ -86,6 +92,20 @@ public class ConfigManager {
         return Long.parseLong(getProperty("jwt.expiration", "3600000")); // 1 hour default
     }
     
+    /**
+     * Get maximum number of verified JWT claims kept in memory
+     */
+    public long getJwtClaimsCacheSize() {
+        return Long.parseLong(getProperty("jwt.claims.cache.size", "10000"));
+    }
+    
+    /**
+     * Get how long before expiry a JWT is renewed
+     */
+    public long getJwtRefreshAheadMs() {
+        return Long.parseLong(getProperty("jwt.refresh.ahead.ms", "300000")); // 5 minutes default
+    }
+    
     /**
      * Get test data file path
      */
@@ -107,11 +127,266 @@ public class ConfigManager {
         return Boolean.parseBoolean(getProperty("mock.server.enabled", "false"));
     }
     
+    /**
+     * Get flag for the mock server performance profile (mock.server.profile=performance)
+     */
+    public boolean isMockServerPerformanceProfile() {
+        return "performance".equalsIgnoreCase(getProperty("mock.server.profile", "default"));
+    }
+    
+    /**
+     * Get mock server Jetty container thread count override, or null for the profile default
+     */
+    public Integer getMockServerContainerThreads() {
+        String threads = getProperty("mock.server.container.threads");
+        return threads != null ? Integer.valueOf(threads) : null;
+    }
+    
+    /**
+     * Get mock server Jetty acceptor count override, or null for the profile default
+     */
+    public Integer getMockServerAcceptors() {
+        String acceptors = getProperty("mock.server.acceptors");
+        return acceptors != null ? Integer.valueOf(acceptors) : null;
+    }
+    
+    /**
+     * Get mock server async response thread count override (0 = respond on container threads),
+     * or null for the profile default
+     */
+    public Integer getMockServerAsyncResponseThreads() {
+        String threads = getProperty("mock.server.async.threads");
+        return threads != null ? Integer.valueOf(threads) : null;
+    }
+    
+    /**
+     * Get mock server gzip override, or null for the profile default
+     */
+    public Boolean getMockServerGzipEnabled() {
+        String gzip = getProperty("mock.server.gzip.enabled");
+        return gzip != null ? Boolean.valueOf(gzip) : null;
+    }
+    
+    /**
+     * Get mock server request counting override, or null for the profile default
+     */
+    public Boolean getMockServerRequestCounting() {
+        String counting = getProperty("mock.server.request.counting");
+        return counting != null ? Boolean.valueOf(counting) : null;
+    }
+    
+    /**
+     * Get mock server request journal override, or null for the profile default
+     */
+    public Boolean getMockServerJournalEnabled() {
+        String journal = getProperty("mock.server.journal.enabled");
+        return journal != null ? Boolean.valueOf(journal) : null;
+    }
+    
+    /**
+     * Get max number of async requests in flight at once
+     */
+    public int getAsyncMaxInFlight() {
+        return Integer.parseInt(getProperty("async.max.in.flight", "256"));
+    }
+    
+    /**
+     * Get async executor type: "virtual" (default) or "platform"
+     */
+    public String getAsyncExecutorType() {
+        return getProperty("async.executor", "virtual");
+    }
+    
+    /**
+     * Get request metrics enabled flag
+     */
+    public boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(getProperty("metrics.enabled", "true"));
+    }
+    
+    /**
+     * Get directory request metrics are exported to at suite end
+     */
+    public String getMetricsOutputDir() {
+        return getProperty("metrics.output.dir", "target/metrics");
+    }
+    
+    /**
+     * Get flag for streaming Excel sheets (XSSF event API) in data providers instead of loading the workbook
+     */
+    public boolean isExcelStreamingEnabled() {
+        return Boolean.parseBoolean(getProperty("testdata.excel.streaming", "true"));
+    }
+    
+    /**
+     * Get number of rows kept in memory by the streaming Excel writer before spooling to disk
+     */
+    public int getExcelWriteWindow() {
+        return Integer.parseInt(getProperty("testdata.excel.write.window", "100"));
+    }
+    
+    /**
+     * Get run seed for generated test data (replay a run with -Ddatagen.seed=N), or null for a fresh one
+     */
+    public String getDataGenSeed() {
+        return getProperty("datagen.seed");
+    }
+    
+    /**
+     * Get flag for drawing builder values from the pre-generated Faker value pools
+     */
+    public boolean isValuePoolsEnabled() {
+        return Boolean.parseBoolean(getProperty("datagen.pools.enabled", "true"));
+    }
+    
+    /**
+     * Get number of values generated per Faker value pool (before deduplication)
+     */
+    public int getValuePoolsSize() {
+        return Integer.parseInt(getProperty("datagen.pools.size", "5000"));
+    }
+    
+    /**
+     * Get seed of the Faker value pools (part of the persisted pool file name)
+     */
+    public long getValuePoolsSeed() {
+        return Long.parseLong(getProperty("datagen.pools.seed", "42"));
+    }
+    
+    /**
+     * Get directory holding persisted Faker value pools
+     */
+    public String getValuePoolsDir() {
+        return getProperty("datagen.pools.dir", "target/value-pools");
+    }
+    
+    /**
+     * Get flag for the on-disk cache of parsed Excel/CSV/JSON test data
+     */
+    public boolean isTestDataCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("testdata.cache.enabled", "true"));
+    }
+    
+    /**
+     * Get directory holding the parsed test data cache
+     */
+    public String getTestDataCacheDir() {
+        return getProperty("testdata.cache.dir", "target/testdata-cache");
+    }
+    
+    /**
+     * Get number of partitions ShardedFileReader splits large data files into (0 = one per CPU)
+     */
+    public int getTestDataShardCount() {
+        int shards = Integer.parseInt(getProperty("testdata.shard.count", "0"));
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+    
+    /**
+     * Get upper bound, in estimated heap bytes, of Excel sheets kept in TestDataManager's cache
+     */
+    public long getTestDataCacheMaxBytes() {
+        return Long.parseLong(getProperty("testdata.cache.max.bytes", "268435456"));
+    }
+    
+    /**
+     * Get number of identities pre-signed by the token pool (0 = no pool)
+     */
+    public int getTokenPoolSize() {
+        return Integer.parseInt(getProperty("token.pool.size", "0"));
+    }
+    
+    /**
+     * Get roles assigned round-robin to token pool identities
+     */
+    public List<String> getTokenPoolRoles() {
+        return Arrays.asList(getProperty("token.pool.roles", "admin,user,viewer").split("\\s*,\\s*"));
+    }
+    
+    /**
+     * Get flag for registering the Jackson Blackbird module on the shared ObjectMapper
+     */
+    public boolean isJsonBlackbirdEnabled() {
+        return Boolean.parseBoolean(getProperty("json.blackbird.enabled", "false"));
+    }
+    
+    /**
+     * Get page size used when walking paginated lists
+     */
+    public int getPaginationPageSize() {
+        return Integer.parseInt(getProperty("pagination.page.size", "50"));
+    }
+    
+    /**
+     * Get number of pages fetched ahead while the current page is consumed
+     */
+    public int getPaginationPrefetch() {
+        return Integer.parseInt(getProperty("pagination.prefetch", "2"));
+    }
+    
+    /**
+     * Get shared HTTP client pool enabled flag
+     */
+    public boolean isHttpPoolEnabled() {
+        return Boolean.parseBoolean(getProperty("http.pool.enabled", "true"));
+    }
+    
+    /**
+     * Get maximum pooled connections across all hosts
+     */
+    public int getHttpPoolMaxTotal() {
+        return Integer.parseInt(getProperty("http.pool.max.total", "200"));
+    }
+    
+    /**
+     * Get maximum pooled connections per host (route)
+     */
+    public int getHttpPoolMaxPerRoute() {
+        return Integer.parseInt(getProperty("http.pool.max.per.route", "50"));
+    }
+    
+    /**
+     * Get how long an idle connection is kept alive when the server sends no Keep-Alive header
+     */
+    public long getHttpKeepAliveMs() {
+        return Long.parseLong(getProperty("http.keepalive.ms", "30000"));
+    }
+    
+    /**
+     * Get idle time after which pooled connections are evicted
+     */
+    public long getHttpPoolIdleEvictMs() {
+        return Long.parseLong(getProperty("http.pool.idle.evict.ms", "60000"));
+    }
+    
+    /**
+     * Get TestNG parallel mode override (methods, classes, tests...), or null to keep testng.xml
+     */
+    public String getParallelMode() {
+        return getProperty("parallel.mode");
+    }
+    
+    /**
+     * Get TestNG thread count override, or null to keep testng.xml
+     */
+    public Integer getParallelThreadCount() {
+        String threadCount = getProperty("parallel.thread.count");
+        return threadCount != null ? Integer.valueOf(threadCount) : null;
+    }
+    
+    /**
+     * Get TestNG thread count for parallel data providers, or null to keep testng.xml
+     */
+    public Integer getDataProviderThreadCount() {
+        String threadCount = getProperty("dataprovider.thread.count");
+        return threadCount != null ? Integer.valueOf(threadCount) : null;
+    }
+    
     /**
      * Reload configuration
      */
     public void reload() {
-        loadProperties();
+        this.properties = loadProperties();
     }
     
     /**
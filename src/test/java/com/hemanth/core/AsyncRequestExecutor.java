@@ -0,0 +1,125 @@
+package com.hemanth.core;
+
+import com.hemanth.config.ConfigManager;
+import com.hemanth.util.TestDataContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking RestAssured calls off the caller thread with a bounded number in flight.
+ * Defaults to one virtual thread per call, so hundreds of concurrent calls park cheaply
+ * while they wait for a permit instead of holding platform threads.
+ * Each call gets its own seeded data stream, keyed by the submitting test's key and a call number.
+ * Calls also hold one of {@link HttpClientPool#callPermits()}, so executors together never
+ * exceed the pool's per-route limit.
+ */
+public class AsyncRequestExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong calls = new AtomicLong();
+
+    public AsyncRequestExecutor(ExecutorService executor, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Virtual-thread executor with the given in-flight limit
+     */
+    public static AsyncRequestExecutor virtualThreads(int maxInFlight) {
+        return new AsyncRequestExecutor(Executors.newVirtualThreadPerTaskExecutor(), maxInFlight);
+    }
+
+    /**
+     * Fixed platform-thread pool sized to the in-flight limit
+     */
+    public static AsyncRequestExecutor platformThreads(int maxInFlight) {
+        return new AsyncRequestExecutor(Executors.newFixedThreadPool(maxInFlight), maxInFlight);
+    }
+
+    // Shared default, created on first async call
+    private static final class Holder {
+        private static final AsyncRequestExecutor INSTANCE = fromConfig();
+    }
+
+    /**
+     * Get the shared executor configured by async.executor / async.max.in.flight
+     */
+    public static AsyncRequestExecutor getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    private static AsyncRequestExecutor fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        int maxInFlight = config.getAsyncMaxInFlight();
+        switch (config.getAsyncExecutorType().toLowerCase()) {
+            case "virtual":
+                return virtualThreads(maxInFlight);
+            case "platform":
+                return platformThreads(maxInFlight);
+            default:
+                throw new IllegalArgumentException("Unsupported async executor: " + config.getAsyncExecutorType());
+        }
+    }
+
+    /**
+     * Run the call asynchronously once an in-flight permit is available
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> call) {
+        String parentKey = TestDataContext.currentKey();
+        String dataKey = (parentKey != null ? parentKey + "/" : "") + "call-" + calls.getAndIncrement();
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            Semaphore callPermits = HttpClientPool.callPermits();
+            callPermits.acquireUninterruptibly();
+            int current = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(current, Math::max);
+            TestDataContext.bind(dataKey);
+            try {
+                return call.get();
+            } finally {
+                TestDataContext.unbind();
+                inFlight.decrementAndGet();
+                callPermits.release();
+                permits.release();
+            }
+        }, executor);
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Get number of calls currently executing
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get highest number of calls that executed at the same time
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,218 @@
+package com.hemanth.core;
+
+import com.hemanth.config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared HTTP connection pool for RestAssured.
+ * <p>
+ * Without this, RestAssured builds a new HttpClient - and a new connection manager - per request,
+ * so every call opens (and leaves in TIME_WAIT) a fresh socket. Here every request still gets its
+ * own lightweight client, but all of them lease connections from one pooling manager that keeps
+ * connections alive, evicts idle ones in the background and applies connect/socket timeouts.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still drives the HttpClient 4 "classic" API
+public class HttpClientPool implements AutoCloseable {
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final SharedConnectionManager sharedManager;
+    private final ScheduledExecutorService evictor;
+    private final long keepAliveMs;
+    private final RestAssuredConfig restAssuredConfig;
+
+    public HttpClientPool(int maxTotal, int maxPerRoute, long keepAliveMs, long idleEvictMs, int timeoutMs) {
+        this.connectionManager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault());
+        this.connectionManager.setMaxTotal(maxTotal);
+        this.connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        this.sharedManager = new SharedConnectionManager(connectionManager);
+        this.keepAliveMs = keepAliveMs;
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictPeriod = Math.max(idleEvictMs / 2, 1000);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictMs, TimeUnit.MILLISECONDS);
+        }, evictPeriod, evictPeriod, TimeUnit.MILLISECONDS);
+
+        this.restAssuredConfig = buildConfig(timeoutMs);
+    }
+
+    // Shared default, created on first request
+    private static final class Holder {
+        private static final HttpClientPool INSTANCE = fromConfig();
+    }
+
+    /**
+     * Get the shared pool configured by the http.pool.* properties and api.timeout
+     */
+    public static HttpClientPool getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class CallPermits {
+        private static final Semaphore INSTANCE = new Semaphore(ConfigManager.getInstance().getHttpPoolMaxPerRoute());
+    }
+
+    /**
+     * Get the JVM-wide permits for calls made from virtual threads, sized to http.pool.max.per.route.
+     * A virtual thread blocked on a connection lease inside HttpClient can stay pinned to its carrier,
+     * and with few carriers the threads holding connections would never run again to release them.
+     */
+    public static Semaphore callPermits() {
+        return CallPermits.INSTANCE;
+    }
+
+    private static HttpClientPool fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        return new HttpClientPool(
+                config.getHttpPoolMaxTotal(),
+                config.getHttpPoolMaxPerRoute(),
+                config.getHttpKeepAliveMs(),
+                config.getHttpPoolIdleEvictMs(),
+                config.getApiTimeout());
+    }
+
+    /**
+     * Get the RestAssured config using this pool with the default timeout
+     */
+    public RestAssuredConfig getRestAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Build a RestAssured config using this pool with a custom connect/socket timeout
+     */
+    public RestAssuredConfig getRestAssuredConfig(int timeoutMs) {
+        return buildConfig(timeoutMs);
+    }
+
+    private RestAssuredConfig buildConfig(int timeoutMs) {
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, timeoutMs)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, timeoutMs)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) timeoutMs)
+                .httpClientFactory(this::newClient);
+        return RestAssured.config().httpClient(httpClientConfig);
+    }
+
+    private DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(sharedManager);
+        DefaultConnectionKeepAliveStrategy serverStrategy = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        // honour the server's Keep-Alive header, otherwise keep connections for keepAliveMs
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = serverStrategy.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMs;
+        });
+        return client;
+    }
+
+    /**
+     * Get leased/available/pending/max connection counts
+     */
+    public PoolStats getStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Get number of requests that were served on an already open connection
+     */
+    public long getReusedConnections() {
+        return sharedManager.reused.sum();
+    }
+
+    /**
+     * Get number of requests that had to open a new connection
+     */
+    public long getOpenedConnections() {
+        return sharedManager.opened.sum();
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    /**
+     * Delegates to the pool but ignores shutdown(), so a per-request client closing "its"
+     * connection manager cannot tear down the shared pool. Also counts connection reuse.
+     */
+    private static final class SharedConnectionManager implements ClientConnectionManager {
+        private final ClientConnectionManager delegate;
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder opened = new LongAdder();
+
+        private SharedConnectionManager(ClientConnectionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return delegate.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = delegate.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    (connection.isOpen() ? reused : opened).increment();
+                    return connection;
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit unit) {
+            delegate.releaseConnection(connection, validDuration, unit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            delegate.closeExpiredConnections();
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit unit) {
+            delegate.closeIdleConnections(idleTime, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            // owned by HttpClientPool
+        }
+    }
+}
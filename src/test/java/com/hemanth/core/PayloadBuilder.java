@@ -3,22 +3,61 @@ package com.hemanth.core;
 import com.hemanth.models.User;
 import com.hemanth.util.TestDataBuilder;
 import com.hemanth.util.JsonUtils;
+import com.hemanth.util.TestDataContext;
+import com.hemanth.util.ValuePools;
+import com.hemanth.util.ValuePools.Pool;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Builder Pattern implementation for creating dynamic payloads
+ * Builder Pattern implementation for creating dynamic payloads.
+ * Random values come from shared constant pools and the calling test's seeded stream
+ * ({@link TestDataContext}), so builders are cheap to create, safe to use from many threads and
+ * reproducible from the run seed; emails use {@link #uniqueId()} and never collide.
  */
 public class PayloadBuilder {
     
+    private static final String[] NAMES = {"John Doe", "Jane Smith", "Bob Johnson", "Alice Brown", "Charlie Wilson"};
+    private static final String[] JOBS = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager", "Data Analyst"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "test.com", "demo.com", "sample.com"};
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Bob", "Alice", "Charlie", "Diana", "Edward", "Fiona"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Brown", "Wilson", "Davis", "Miller", "Garcia"};
+    private static final String[] PRODUCT_NAMES = {"Laptop", "Smartphone", "Tablet", "Headphones", "Monitor", "Keyboard", "Mouse"};
+    private static final String[] PRODUCT_DESCRIPTIONS = {"High quality product", "Best in class", "Premium features", "Reliable performance"};
+    private static final String[] PRODUCT_CATEGORIES = {"Electronics", "Computers", "Mobile", "Accessories", "Gaming"};
+    private static final String[] STREETS = {"Main St", "Oak Ave", "Pine Rd", "Elm St", "Maple Dr"};
+    private static final String[] CITIES = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix"};
+    
+    // run prefix (start time + pid) keeps ids distinct across runs and parallel JVM forks
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36)
+            + Long.toString(ProcessHandle.current().pid(), 36);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    
     private final Map<String, Object> payload;
-    private final Random random;
     
     public PayloadBuilder() {
         this.payload = new HashMap<>();
-        this.random = new Random();
+    }
+    
+    /**
+     * Identifier unique across threads, runs and forks (e.g. "lx2k9a3f1c-7f"), for millions of creates
+     */
+    public static String uniqueId() {
+        return RUN_ID + "-" + Long.toString(SEQUENCE.incrementAndGet(), 36);
+    }
+    
+    private static String pick(String[] pool) {
+        return pool[TestDataContext.current().nextInt(pool.length)];
+    }
+    
+    /**
+     * Realistic value from the Faker value pools, or from the built-in list when pools are disabled
+     */
+    private static String pick(Pool pool, String[] fallback) {
+        return ValuePools.isEnabled() ? ValuePools.getInstance().pick(pool) : pick(fallback);
     }
     
     /**
@@ -26,11 +65,9 @@ public class PayloadBuilder {
      */
     public static class UserPayloadBuilder {
         private final Map<String, Object> userPayload;
-        private final Random random;
         
         public UserPayloadBuilder() {
             this.userPayload = new HashMap<>();
-            this.random = new Random();
         }
         
         public UserPayloadBuilder withName(String name) {
@@ -64,39 +101,32 @@ public class PayloadBuilder {
         }
         
         public UserPayloadBuilder withRandomName() {
-            String[] names = {"John Doe", "Jane Smith", "Bob Johnson", "Alice Brown", "Charlie Wilson"};
-            userPayload.put("name", names[random.nextInt(names.length)]);
+            userPayload.put("name", pick(Pool.FULL_NAME, NAMES));
             return this;
         }
         
         public UserPayloadBuilder withRandomJob() {
-            String[] jobs = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager", "Data Analyst"};
-            userPayload.put("job", jobs[random.nextInt(jobs.length)]);
+            userPayload.put("job", pick(Pool.JOB_TITLE, JOBS));
             return this;
         }
         
         public UserPayloadBuilder withRandomEmail() {
-            String[] domains = {"example.com", "test.com", "demo.com", "sample.com"};
-            String name = "user" + random.nextInt(1000);
-            String domain = domains[random.nextInt(domains.length)];
-            userPayload.put("email", name + "@" + domain);
+            userPayload.put("email", "user." + uniqueId() + "@" + pick(EMAIL_DOMAINS));
             return this;
         }
         
         public UserPayloadBuilder withRandomFirstName() {
-            String[] firstNames = {"John", "Jane", "Bob", "Alice", "Charlie", "Diana", "Edward", "Fiona"};
-            userPayload.put("first_name", firstNames[random.nextInt(firstNames.length)]);
+            userPayload.put("first_name", pick(Pool.FIRST_NAME, FIRST_NAMES));
             return this;
         }
         
         public UserPayloadBuilder withRandomLastName() {
-            String[] lastNames = {"Doe", "Smith", "Johnson", "Brown", "Wilson", "Davis", "Miller", "Garcia"};
-            userPayload.put("last_name", lastNames[random.nextInt(lastNames.length)]);
+            userPayload.put("last_name", pick(Pool.LAST_NAME, LAST_NAMES));
             return this;
         }
         
         public UserPayloadBuilder withRandomAvatar() {
-            userPayload.put("avatar", "https://example.com/avatar" + random.nextInt(1000) + ".jpg");
+            userPayload.put("avatar", "https://example.com/avatar" + TestDataContext.current().nextInt(1000) + ".jpg");
             return this;
         }
         
@@ -127,11 +157,9 @@ public class PayloadBuilder {
      */
     public static class LoginPayloadBuilder {
         private final Map<String, Object> loginPayload;
-        private final Random random;
         
         public LoginPayloadBuilder() {
             this.loginPayload = new HashMap<>();
-            this.random = new Random();
         }
         
         public LoginPayloadBuilder withEmail(String email) {
@@ -145,15 +173,12 @@ public class PayloadBuilder {
         }
         
         public LoginPayloadBuilder withRandomEmail() {
-            String[] domains = {"example.com", "test.com", "demo.com"};
-            String name = "user" + random.nextInt(1000);
-            String domain = domains[random.nextInt(domains.length)];
-            loginPayload.put("email", name + "@" + domain);
+            loginPayload.put("email", "user." + uniqueId() + "@" + pick(EMAIL_DOMAINS));
             return this;
         }
         
         public LoginPayloadBuilder withRandomPassword() {
-            String password = "password" + random.nextInt(1000);
+            String password = "password" + TestDataContext.current().nextInt(1000);
             loginPayload.put("password", password);
             return this;
         }
@@ -176,11 +201,9 @@ public class PayloadBuilder {
      */
     public static class ProductPayloadBuilder {
         private final Map<String, Object> productPayload;
-        private final Random random;
         
         public ProductPayloadBuilder() {
             this.productPayload = new HashMap<>();
-            this.random = new Random();
         }
         
         public ProductPayloadBuilder withName(String name) {
@@ -209,31 +232,28 @@ public class PayloadBuilder {
         }
         
         public ProductPayloadBuilder withRandomName() {
-            String[] names = {"Laptop", "Smartphone", "Tablet", "Headphones", "Monitor", "Keyboard", "Mouse"};
-            productPayload.put("name", names[random.nextInt(names.length)] + " " + random.nextInt(1000));
+            productPayload.put("name", pick(Pool.PRODUCT_NAME, PRODUCT_NAMES) + " " + TestDataContext.current().nextInt(1000));
             return this;
         }
         
         public ProductPayloadBuilder withRandomDescription() {
-            String[] descriptions = {"High quality product", "Best in class", "Premium features", "Reliable performance"};
-            productPayload.put("description", descriptions[random.nextInt(descriptions.length)]);
+            productPayload.put("description", pick(PRODUCT_DESCRIPTIONS));
             return this;
         }
         
         public ProductPayloadBuilder withRandomPrice() {
-            double price = 10.0 + random.nextDouble() * 990.0; // 10.0 to 1000.0
+            double price = TestDataContext.current().nextDouble(10.0, 1000.0);
             productPayload.put("price", Math.round(price * 100.0) / 100.0);
             return this;
         }
         
         public ProductPayloadBuilder withRandomCategory() {
-            String[] categories = {"Electronics", "Computers", "Mobile", "Accessories", "Gaming"};
-            productPayload.put("category", categories[random.nextInt(categories.length)]);
+            productPayload.put("category", pick(PRODUCT_CATEGORIES));
             return this;
         }
         
         public ProductPayloadBuilder withRandomStock() {
-            productPayload.put("stock", random.nextInt(1000));
+            productPayload.put("stock", TestDataContext.current().nextInt(1000));
             return this;
         }
         
@@ -259,11 +279,9 @@ public class PayloadBuilder {
      */
     public static class OrderPayloadBuilder {
         private final Map<String, Object> orderPayload;
-        private final Random random;
         
         public OrderPayloadBuilder() {
             this.orderPayload = new HashMap<>();
-            this.random = new Random();
         }
         
         public OrderPayloadBuilder withUserId(int userId) {
@@ -287,31 +305,33 @@ public class PayloadBuilder {
         }
         
         public OrderPayloadBuilder withRandomUserId() {
-            orderPayload.put("user_id", random.nextInt(1000) + 1);
+            orderPayload.put("user_id", TestDataContext.current().nextInt(1, 1001));
             return this;
         }
         
         public OrderPayloadBuilder withRandomProductIds() {
+            SplittableRandom random = TestDataContext.current();
             java.util.List<Integer> productIds = java.util.List.of(
-                random.nextInt(100) + 1,
-                random.nextInt(100) + 1
+                random.nextInt(1, 101),
+                random.nextInt(1, 101)
             );
             orderPayload.put("product_ids", productIds);
             return this;
         }
         
         public OrderPayloadBuilder withRandomQuantity() {
-            orderPayload.put("quantity", random.nextInt(10) + 1);
+            orderPayload.put("quantity", TestDataContext.current().nextInt(1, 11));
             return this;
         }
         
         public OrderPayloadBuilder withRandomShippingAddress() {
-            String[] streets = {"Main St", "Oak Ave", "Pine Rd", "Elm St", "Maple Dr"};
-            String[] cities = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix"};
-            String street = streets[random.nextInt(streets.length)];
-            String city = cities[random.nextInt(cities.length)];
-            int number = random.nextInt(9999) + 1;
-            orderPayload.put("shipping_address", number + " " + street + ", " + city);
+            if (ValuePools.isEnabled()) {
+                ValuePools pools = ValuePools.getInstance();
+                orderPayload.put("shipping_address", pools.pick(Pool.STREET_ADDRESS) + ", " + pools.pick(Pool.CITY));
+                return this;
+            }
+            int number = TestDataContext.current().nextInt(1, 10000);
+            orderPayload.put("shipping_address", number + " " + pick(STREETS) + ", " + pick(CITIES));
             return this;
         }
         
@@ -3,44 +3,90 @@ package com.hemanth.core;
 import com.hemanth.config.ConfigManager;
 import com.hemanth.core.Specs;
 import com.hemanth.core.TokenManager;
+import com.hemanth.metrics.MetricsFilter;
+import com.hemanth.util.JsonUtils;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Factory Pattern implementation for creating different types of request objects
+ * Factory Pattern implementation for creating different types of request objects.
+ * Every create* call returns a new RequestSpecification, so a spec is confined to the thread
+ * that built it and one factory can be shared by tests running in parallel.
  */
 public class RequestFactory {
     
     private final ConfigManager config;
     private final TokenManager tokenManager;
+    private final String baseUrl;
+    private final AsyncRequestExecutor asyncExecutor;
+    private final boolean metricsEnabled;
+    private final HttpClientPool httpClientPool;
     
     public RequestFactory() {
+        this(ConfigManager.getInstance().getBaseUrl());
+    }
+    
+    /**
+     * Create a factory targeting another base URL, e.g. {@code MockServer.getBaseUrl()}
+     */
+    public RequestFactory(String baseUrl) {
+        this(baseUrl, null);
+    }
+    
+    /**
+     * Create a factory with its own async executor (null = shared default from config)
+     */
+    public RequestFactory(String baseUrl, AsyncRequestExecutor asyncExecutor) {
         this.config = ConfigManager.getInstance();
         this.tokenManager = TokenManager.getInstance();
+        this.baseUrl = baseUrl;
+        this.asyncExecutor = asyncExecutor;
+        this.metricsEnabled = config.isMetricsEnabled();
+        this.httpClientPool = config.isHttpPoolEnabled() ? HttpClientPool.getDefault() : null;
+    }
+    
+    /**
+     * Start a request against the base URL; every request goes through the metrics filter
+     * and leases its connection from the shared pool
+     */
+    private RequestSpecification newRequest(ContentType contentType) {
+        RequestSpecification request = RestAssured.given()
+                .baseUri(baseUrl)
+                .contentType(contentType);
+        if (httpClientPool != null) {
+            request.config(httpClientPool.getRestAssuredConfig());
+        }
+        if (metricsEnabled) {
+            request.filter(MetricsFilter.INSTANCE);
+        }
+        return request;
     }
     
     /**
      * Create a basic request specification
      */
     public RequestSpecification createBasicRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.JSON);
+        return newRequest(ContentType.JSON);
     }
     
     /**
-     * Create an authenticated request specification
+     * Create an authenticated request specification.
+     * Uses the thread's current token, falling back to the shared TokenProvider; expiry is checked
+     * against the cached expiration, so no JWT is parsed per request.
      */
     public RequestSpecification createAuthenticatedRequest() {
         RequestSpecification request = createBasicRequest();
         
-        if (tokenManager.isCurrentTokenExpired()) {
+        TokenContext context = tokenManager.getActiveContext();
+        if (context == null || context.isExpired()) {
             throw new RuntimeException("Token expired. Please authenticate first.");
         }
         
-        return request.header("Authorization", tokenManager.getAuthorizationHeader());
+        return request.header("Authorization", context.getAuthorizationHeader());
     }
     
     /**
@@ -74,36 +120,32 @@ public class RequestFactory {
      * Create a request with form data
      */
     public RequestSpecification createFormRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.URLENC);
+        return newRequest(ContentType.URLENC);
     }
     
     /**
      * Create a request with multipart data
      */
     public RequestSpecification createMultipartRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.MULTIPART);
+        return newRequest(ContentType.MULTIPART);
     }
     
     /**
      * Create a request with XML content
      */
     public RequestSpecification createXmlRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.XML);
+        return newRequest(ContentType.XML);
     }
     
     /**
      * Create a request with custom timeout
      */
     public RequestSpecification createRequestWithTimeout(int timeout) {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.JSON);
+        RequestSpecification request = newRequest(ContentType.JSON);
+        if (httpClientPool != null) {
+            request.config(httpClientPool.getRestAssuredConfig(timeout));
+        }
+        return request;
     }
     
     /**
@@ -119,18 +161,14 @@ public class RequestFactory {
      * Create a request for file upload
      */
     public RequestSpecification createFileUploadRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.MULTIPART);
+        return newRequest(ContentType.MULTIPART);
     }
     
     /**
      * Create a request with custom SSL configuration
      */
     public RequestSpecification createSslRequest() {
-        return RestAssured.given()
-                .baseUri(config.getBaseUrl())
-                .contentType(ContentType.JSON)
+        return newRequest(ContentType.JSON)
                 .relaxedHTTPSValidation(); // For testing purposes only
     }
     
@@ -175,6 +213,22 @@ public class RequestFactory {
                 .response();
     }
     
+    /**
+     * GET request with query parameters whose body stays unread on the connection, for callers that
+     * stream it. Status and content type are checked directly: validating with spec() buffers the body.
+     * Close the body stream to release the connection.
+     */
+    public Response getUnbuffered(String endpoint, java.util.Map<String, String> queryParams) {
+        return createRequestWithQueryParams(queryParams)
+                .when()
+                .get(endpoint)
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .extract()
+                .response();
+    }
+    
     /**
      * POST request with JSON body
      */
@@ -257,4 +311,123 @@ public class RequestFactory {
                 .extract()
                 .response();
     }
+    
+    // Async HTTP methods - each returns immediately, the call runs on the async executor.
+    // Specs are built on the caller thread so per-thread state (e.g. the current token) is captured.
+    
+    private AsyncRequestExecutor async() {
+        return asyncExecutor != null ? asyncExecutor : AsyncRequestExecutor.getDefault();
+    }
+    
+    /**
+     * Async GET request with basic configuration
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        RequestSpecification request = createBasicRequest();
+        return async().submit(() -> request
+                .when()
+                .get(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async GET request deserialized to the given type
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, Class<T> type) {
+        return getAsync(endpoint).thenApply(response -> JsonUtils.fromJson(response.getBody().asString(), type));
+    }
+    
+    /**
+     * Async GET request with authentication
+     */
+    public CompletableFuture<Response> getAuthenticatedAsync(String endpoint) {
+        RequestSpecification request = createAuthenticatedRequest();
+        return async().submit(() -> request
+                .when()
+                .get(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async GET request with query parameters
+     */
+    public CompletableFuture<Response> getWithQueryParamsAsync(String endpoint, java.util.Map<String, String> queryParams) {
+        RequestSpecification request = createRequestWithQueryParams(queryParams);
+        return async().submit(() -> request
+                .when()
+                .get(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async POST request with JSON body
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object body) {
+        RequestSpecification request = createBasicRequest().body(body);
+        return async().submit(() -> request
+                .when()
+                .post(endpoint)
+                .then()
+                .spec(Specs.created())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async POST request deserialized to the given type
+     */
+    public <T> CompletableFuture<T> postAsync(String endpoint, Object body, Class<T> type) {
+        return postAsync(endpoint, body).thenApply(response -> JsonUtils.fromJson(response.getBody().asString(), type));
+    }
+    
+    /**
+     * Async PUT request
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object body) {
+        RequestSpecification request = createBasicRequest().body(body);
+        return async().submit(() -> request
+                .when()
+                .put(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async PATCH request
+     */
+    public CompletableFuture<Response> patchAsync(String endpoint, Object body) {
+        RequestSpecification request = createBasicRequest().body(body);
+        return async().submit(() -> request
+                .when()
+                .patch(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
+    
+    /**
+     * Async DELETE request
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        RequestSpecification request = createBasicRequest();
+        return async().submit(() -> request
+                .when()
+                .delete(endpoint)
+                .then()
+                .spec(Specs.success())
+                .extract()
+                .response());
+    }
 }
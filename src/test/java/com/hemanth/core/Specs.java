@@ -7,17 +7,52 @@ import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
 
+/**
+ * Registry of request/response specifications.
+ * Every spec is built once and shared across threads, so callers must treat the returned
+ * instances as read-only and only merge them via {@code given().spec(..)} / {@code then().spec(..)}.
+ */
 public class Specs {
 
+    public static final String SUCCESS = "success";
+    public static final String OK = "ok";
+    public static final String CREATED = "created";
+    public static final String NO_CONTENT = "noContent";
+
+    private static final Map<String, ResponseSpecification> RESPONSE_SPECS = new ConcurrentHashMap<>();
+
+    static {
+        // generic success response spec → reusable when multiple 2xx codes are acceptable (like 200 or 201)
+        registerResponse(SUCCESS, ContentType.JSON, 200, 201, 204);
+        registerResponse(OK, ContentType.JSON, 200);
+        registerResponse(CREATED, ContentType.JSON, 201);
+        registerResponse(NO_CONTENT, null, 204);
+    }
+
     //    Private constructor to prevent creating instances of this class.
     private Specs() {
     }
 
+    // Config is only touched on first use of request(), not when the response specs are loaded
+    private static final class RequestSpecHolder {
+        private static final RequestSpecification INSTANCE = buildRequestSpec();
+    }
+
     public static RequestSpecification request() {
+        return RequestSpecHolder.INSTANCE;
+    }
+
+    private static RequestSpecification buildRequestSpec() {
         RequestSpecBuilder builder = new RequestSpecBuilder()
                 .setBaseUri(Config.baseUri())
                 .setContentType(ContentType.JSON)
@@ -31,33 +66,75 @@ public class Specs {
         return builder.build();
     }
 
-    // generic success response spec → reusable when multiple 2xx codes are acceptable (like 200 or 201
     public static ResponseSpecification success() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(anyOf(equalTo(200), equalTo(201), equalTo(204)))
-                .expectContentType(ContentType.JSON)
-                .build();
+        return RESPONSE_SPECS.get(SUCCESS);
     }
 
-
     public static ResponseSpecification ok() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(200)
-                .expectContentType(ContentType.JSON)
-                .build();
+        return RESPONSE_SPECS.get(OK);
     }
 
     public static ResponseSpecification created() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(201)
-                .expectContentType(ContentType.JSON)
-                .build();
+        return RESPONSE_SPECS.get(CREATED);
     }
 
     public static ResponseSpecification noContent() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(204)
-                .build();
+        return RESPONSE_SPECS.get(NO_CONTENT);
+    }
+
+    /**
+     * Get a response spec registered under the given key
+     */
+    public static ResponseSpecification response(String key) {
+        ResponseSpecification spec = RESPONSE_SPECS.get(key);
+        if (spec == null) {
+            throw new IllegalArgumentException("No response spec registered for key: " + key);
+        }
+        return spec;
+    }
+
+    /**
+     * Register a response spec for a status/content-type combination.
+     * The first registration of a key wins; the spec that ends up registered is returned.
+     *
+     * @param contentType expected content type, or {@code null} to skip the content-type check
+     */
+    public static ResponseSpecification registerResponse(String key, ContentType contentType, int... statusCodes) {
+        if (statusCodes.length == 0) {
+            throw new IllegalArgumentException("At least one status code is required for spec: " + key);
+        }
+        return RESPONSE_SPECS.computeIfAbsent(key, k -> buildResponseSpec(contentType, statusCodes));
+    }
+
+    /**
+     * Register a prebuilt response spec under the given key
+     */
+    public static ResponseSpecification registerResponse(String key, ResponseSpecification spec) {
+        return RESPONSE_SPECS.computeIfAbsent(key, k -> spec);
+    }
+
+    /**
+     * Check if a response spec is registered under the given key
+     */
+    public static boolean isRegistered(String key) {
+        return RESPONSE_SPECS.containsKey(key);
+    }
+
+    private static ResponseSpecification buildResponseSpec(ContentType contentType, int... statusCodes) {
+        ResponseSpecBuilder builder = new ResponseSpecBuilder();
+        if (statusCodes.length == 1) {
+            builder.expectStatusCode(statusCodes[0]);
+        } else {
+            List<Matcher<? super Integer>> matchers = new ArrayList<>(statusCodes.length);
+            for (int statusCode : statusCodes) {
+                matchers.add(equalTo(statusCode));
+            }
+            builder.expectStatusCode(anyOf(matchers));
+        }
+        if (contentType != null) {
+            builder.expectContentType(contentType);
+        }
+        return builder.build();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.hemanth.core;
+
+import java.util.Date;
+
+/**
+ * Immutable snapshot of a signed token and its expiry, safe to share between threads
+ */
+public final class TokenContext {
+
+    private final String token;
+    private final long expiresAtMillis;
+
+    public TokenContext(String token, Date expiration) {
+        this(token, expiration != null ? expiration.getTime() : 0L);
+    }
+
+    public TokenContext(String token, long expiresAtMillis) {
+        this.token = token;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Date getExpiration() {
+        return expiresAtMillis > 0 ? new Date(expiresAtMillis) : null;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Get time until token expires (in milliseconds)
+     */
+    public long getTimeUntilExpiration() {
+        return expiresAtMillis > 0 ? expiresAtMillis - System.currentTimeMillis() : 0;
+    }
+
+    /**
+     * Check expiry against the cached expiration time (no signature verification)
+     */
+    public boolean isExpired() {
+        return getTimeUntilExpiration() <= 0;
+    }
+
+    public String getAuthorizationHeader() {
+        return "Bearer " + token;
+    }
+}
@@ -1,46 +1,84 @@
 package com.hemanth.core;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.hemanth.config.ConfigManager;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
- * JWT Token Manager for authentication, token expiration, and renewal
+ * JWT Token Manager for authentication, token expiration, and renewal.
+ * The "current" token is tracked per thread, so parallel tests never see each other's tokens.
+ * Tokens are verified with one shared parser, and verified claims are cached by SHA-256 of the token
+ * until the token expires, so repeated checks of the same token skip the HMAC verification.
  */
 public class TokenManager {
     
-    private static TokenManager instance;
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<HashCode, Claims> verifiedClaims;
     private final long expirationTime;
-    private String currentToken;
-    private Date tokenExpiration;
+    private final long refreshAheadMs;
+    private final ThreadLocal<TokenContext> currentContext = new ThreadLocal<>();
+    private volatile TokenProvider tokenProvider;
     
     // Private constructor
     private TokenManager() {
         ConfigManager config = ConfigManager.getInstance();
         this.secretKey = Keys.hmacShaKeyFor(config.getJwtSecret().getBytes());
         this.expirationTime = config.getJwtExpiration();
+        this.refreshAheadMs = config.getJwtRefreshAheadMs();
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedClaims = CacheBuilder.newBuilder()
+                .maximumSize(config.getJwtClaimsCacheSize())
+                .expireAfterWrite(expirationTime, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+    
+    private static final class Holder {
+        private static final TokenManager INSTANCE = new TokenManager();
     }
     
     /**
      * Get singleton instance
      */
-    public static synchronized TokenManager getInstance() {
-        if (instance == null) {
-            instance = new TokenManager();
-        }
-        return instance;
+    public static TokenManager getInstance() {
+        return Holder.INSTANCE;
     }
     
     /**
      * Generate JWT token for a user
      */
     public String generateToken(String username, String role) {
+        TokenContext context = signToken(username, role);
+        currentContext.set(context);
+        return context.getToken();
+    }
+    
+    /**
+     * Generate token with custom claims
+     */
+    public String generateToken(Map<String, Object> claims) {
+        TokenContext context = signToken(claims);
+        currentContext.set(context);
+        return context.getToken();
+    }
+    
+    /**
+     * Sign a token for a user without changing the current token
+     */
+    public TokenContext signToken(String username, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("username", username);
         claims.put("role", role);
@@ -56,16 +94,13 @@ public class TokenManager {
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
         
-        this.currentToken = token;
-        this.tokenExpiration = expiration;
-        
-        return token;
+        return new TokenContext(token, expiration);
     }
     
     /**
-     * Generate token with custom claims
+     * Sign a token with custom claims without changing the current token
      */
-    public String generateToken(Map<String, Object> claims) {
+    public TokenContext signToken(Map<String, Object> claims) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationTime);
         
@@ -76,10 +111,7 @@ public class TokenManager {
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
         
-        this.currentToken = token;
-        this.tokenExpiration = expiration;
-        
-        return token;
+        return new TokenContext(token, expiration);
     }
     
     /**
@@ -87,10 +119,7 @@ public class TokenManager {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            extractClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -98,14 +127,43 @@ public class TokenManager {
     }
     
     /**
-     * Extract claims from token
+     * Extract claims from token; the signature is verified once per token and cached until it expires
      */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (token == null) {
+            throw new IllegalArgumentException("Token must not be null");
+        }
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            // expired since it was cached: re-parse so callers get the parser's ExpiredJwtException
+            verifiedClaims.invalidate(key);
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+    
+    /**
+     * Get hit/miss statistics of the verified-claims cache
+     */
+    public CacheStats getClaimsCacheStats() {
+        return verifiedClaims.stats();
+    }
+    
+    /**
+     * Drop all cached verified claims
+     */
+    public void clearClaimsCache() {
+        verifiedClaims.invalidateAll();
+    }
+    
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
     
     /**
@@ -128,42 +186,41 @@ public class TokenManager {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = extractClaims(token);
-            return claims.getExpiration().before(new Date());
+            return isExpired(extractClaims(token));
         } catch (Exception e) {
             return true;
         }
     }
     
     /**
-     * Check if current token is expired
+     * Check if current token is expired, using the expiry cached when the token was set
      */
     public boolean isCurrentTokenExpired() {
-        return currentToken == null || isTokenExpired(currentToken);
+        TokenContext context = currentContext.get();
+        return context == null || context.isExpired();
     }
     
     /**
      * Get time until token expires (in milliseconds)
      */
     public long getTimeUntilExpiration() {
-        if (tokenExpiration == null) {
-            return 0;
-        }
-        return tokenExpiration.getTime() - System.currentTimeMillis();
+        TokenContext context = currentContext.get();
+        return context != null ? context.getTimeUntilExpiration() : 0;
     }
     
     /**
-     * Check if token needs renewal (expires within 5 minutes)
+     * Check if token needs renewal (expires within jwt.refresh.ahead.ms, default 5 minutes)
      */
     public boolean needsRenewal() {
         long timeUntilExpiration = getTimeUntilExpiration();
-        return timeUntilExpiration > 0 && timeUntilExpiration < 300000; // 5 minutes
+        return timeUntilExpiration > 0 && timeUntilExpiration < refreshAheadMs;
     }
     
     /**
      * Renew current token
      */
     public String renewToken() {
+        String currentToken = getCurrentToken();
         if (currentToken == null) {
             throw new IllegalStateException("No current token to renew");
         }
@@ -183,38 +240,88 @@ public class TokenManager {
      * Get current token
      */
     public String getCurrentToken() {
-        return currentToken;
+        TokenContext context = currentContext.get();
+        return context != null ? context.getToken() : null;
+    }
+    
+    /**
+     * Get current token context of the calling thread
+     */
+    public TokenContext getCurrentContext() {
+        return currentContext.get();
+    }
+    
+    /**
+     * Set the calling thread's current token from an already signed context (no parsing)
+     */
+    public void setCurrentContext(TokenContext context) {
+        if (context == null) {
+            clearToken();
+            return;
+        }
+        currentContext.set(context);
+    }
+    
+    /**
+     * Use a shared provider for threads that have no current token of their own
+     */
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+    
+    /**
+     * Get the shared token provider, or null if none is set
+     */
+    public TokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
+    
+    /**
+     * Get the token to authenticate with: the calling thread's current token if it is still valid,
+     * otherwise the shared provider's token (if any). Never re-parses the JWT.
+     */
+    public TokenContext getActiveContext() {
+        TokenContext context = currentContext.get();
+        TokenProvider provider = tokenProvider;
+        if ((context == null || context.isExpired()) && provider != null) {
+            return provider.getContext();
+        }
+        return context;
     }
     
     /**
      * Set current token
      */
     public void setCurrentToken(String token) {
-        this.currentToken = token;
+        if (token == null) {
+            clearToken();
+            return;
+        }
+        Date expiration;
         try {
-            Claims claims = extractClaims(token);
-            this.tokenExpiration = claims.getExpiration();
+            expiration = extractClaims(token).getExpiration();
         } catch (Exception e) {
-            this.tokenExpiration = null;
+            expiration = null;
         }
+        currentContext.set(new TokenContext(token, expiration));
     }
     
     /**
      * Clear current token
      */
     public void clearToken() {
-        this.currentToken = null;
-        this.tokenExpiration = null;
+        currentContext.remove();
     }
     
     /**
      * Get authorization header value
      */
     public String getAuthorizationHeader() {
-        if (currentToken == null) {
+        TokenContext context = currentContext.get();
+        if (context == null) {
             throw new IllegalStateException("No token available");
         }
-        return "Bearer " + currentToken;
+        return context.getAuthorizationHeader();
     }
     
     /**
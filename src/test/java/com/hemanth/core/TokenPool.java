@@ -0,0 +1,209 @@
+package com.hemanth.core;
+
+import com.hemanth.config.ConfigManager;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Pre-signed tokens for many identities (vuser-0 .. vuser-N-1, roles assigned round-robin).
+ * <p>
+ * {@link #warmUp()} signs all tokens in parallel; afterwards a virtual user reads its token by index
+ * (a plain array read, no locking) and a background sweep re-signs tokens before they expire.
+ * A thread can also claim a slot once and keep it via {@link #forCurrentThread()}.
+ */
+public class TokenPool implements AutoCloseable {
+
+    private static volatile TokenPool shared;
+
+    private final String[] usernames;
+    private final String[] roles;
+    private final AtomicReferenceArray<TokenContext> tokens;
+    private final BiFunction<String, String, TokenContext> signer;
+    private final long refreshAheadMs;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final ThreadLocal<Integer> threadSlot;
+    private final LongAdder resigned = new LongAdder();
+
+    private ScheduledExecutorService refresher;
+    private long warmUpNanos;
+
+    /**
+     * Create a pool signing tokens with TokenManager and the configured jwt.refresh.ahead.ms
+     */
+    public TokenPool(int size, List<String> roleNames) {
+        this(size, roleNames, ConfigManager.getInstance().getJwtRefreshAheadMs(),
+                TokenManager.getInstance()::signToken);
+    }
+
+    /**
+     * Create a pool with a custom signer (username, role) -> token
+     */
+    public TokenPool(int size, List<String> roleNames, long refreshAheadMs,
+                     BiFunction<String, String, TokenContext> signer) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Token pool size must be > 0, got " + size);
+        }
+        if (roleNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one role is required");
+        }
+        this.usernames = new String[size];
+        this.roles = new String[size];
+        for (int i = 0; i < size; i++) {
+            usernames[i] = "vuser-" + i;
+            roles[i] = roleNames.get(i % roleNames.size());
+        }
+        this.tokens = new AtomicReferenceArray<>(size);
+        this.signer = signer;
+        this.refreshAheadMs = refreshAheadMs;
+        this.threadSlot = slotClaimer(nextSlot, size);
+    }
+
+    /**
+     * Create a pool sized by token.pool.size with roles from token.pool.roles
+     */
+    public static TokenPool fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        return new TokenPool(config.getTokenPoolSize(), config.getTokenPoolRoles());
+    }
+
+    /**
+     * Get the suite-wide pool warmed up by TokenPoolListener
+     */
+    public static TokenPool getShared() {
+        TokenPool pool = shared;
+        if (pool == null) {
+            throw new IllegalStateException("No shared token pool. Set token.pool.size > 0 and register TokenPoolListener");
+        }
+        return pool;
+    }
+
+    /**
+     * Set (or clear with null) the suite-wide pool
+     */
+    public static void setShared(TokenPool pool) {
+        shared = pool;
+    }
+
+    /**
+     * Sign every token in parallel and start the background re-signing sweep
+     */
+    public synchronized TokenPool warmUp() {
+        long start = System.nanoTime();
+        IntStream.range(0, size()).parallel().forEach(this::sign);
+        warmUpNanos = System.nanoTime() - start;
+
+        if (refresher == null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "token-pool-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long sweepPeriod = Math.max(refreshAheadMs / 4, 10);
+            refresher.scheduleWithFixedDelay(this::resignExpiring, sweepPeriod, sweepPeriod, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Get the token of a virtual user (index wraps around the pool size)
+     */
+    public TokenContext get(int virtualUser) {
+        TokenContext context = tokens.get(Math.floorMod(virtualUser, size()));
+        if (context == null) {
+            throw new IllegalStateException("Token pool is not warmed up");
+        }
+        return context;
+    }
+
+    /**
+     * Get the username of a virtual user
+     */
+    public String getUsername(int virtualUser) {
+        return usernames[Math.floorMod(virtualUser, size())];
+    }
+
+    /**
+     * Get the role of a virtual user
+     */
+    public String getRole(int virtualUser) {
+        return roles[Math.floorMod(virtualUser, size())];
+    }
+
+    /**
+     * Get the token of the slot claimed by the calling thread on first use
+     */
+    public TokenContext forCurrentThread() {
+        return get(threadSlot.get());
+    }
+
+    /**
+     * Make the calling thread's slot token its TokenManager current token
+     */
+    public void bindCurrentThread() {
+        TokenManager.getInstance().setCurrentContext(forCurrentThread());
+    }
+
+    public int size() {
+        return usernames.length;
+    }
+
+    /**
+     * Get how long the last warm-up took (in milliseconds)
+     */
+    public double getWarmUpMillis() {
+        return warmUpNanos / 1_000_000.0;
+    }
+
+    /**
+     * Get tokens signed per second during the last warm-up
+     */
+    public double getSigningRatePerSecond() {
+        return warmUpNanos > 0 ? size() / (warmUpNanos / 1_000_000_000.0) : 0;
+    }
+
+    /**
+     * Get number of tokens re-signed in the background
+     */
+    public long getResignedCount() {
+        return resigned.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    // captures only the counter and size, so the constructor does not leak this
+    private static ThreadLocal<Integer> slotClaimer(AtomicInteger nextSlot, int size) {
+        return ThreadLocal.withInitial(() -> Math.floorMod(nextSlot.getAndIncrement(), size));
+    }
+
+    private void sign(int slot) {
+        tokens.set(slot, signer.apply(usernames[slot], roles[slot]));
+    }
+
+    private void resignExpiring() {
+        try {
+            IntStream.range(0, size()).parallel()
+                    .filter(slot -> tokens.get(slot).getTimeUntilExpiration() < refreshAheadMs)
+                    .forEach(slot -> {
+                        sign(slot);
+                        resigned.increment();
+                    });
+        } catch (RuntimeException e) {
+            // keep the sweep scheduled; the next run retries the remaining slots
+            System.err.println("Token pool re-signing failed: " + e.getMessage());
+        }
+    }
+}
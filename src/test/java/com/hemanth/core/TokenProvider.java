@@ -0,0 +1,186 @@
+package com.hemanth.core;
+
+import com.hemanth.config.ConfigManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Supplies a valid token to any number of threads and renews it in the background before it expires.
+ * <p>
+ * The hot path only reads a volatile {@link TokenContext} and compares its cached expiry - no JWT parsing
+ * or signature verification. Once the refresh point is reached (refresh-ahead window before expiry) the
+ * first caller starts a background refresh and everyone keeps using the still-valid token; concurrent
+ * callers share that single in-flight refresh. Callers only wait when there is no valid token at all,
+ * i.e. before the first token or after refreshes kept failing until expiry.
+ */
+public class TokenProvider implements AutoCloseable {
+
+    private static final long RETRY_DELAY_MS = 1000;
+    // floor for the next refresh, so very short-lived tokens cannot make the refresher spin
+    private static final long MIN_REFRESH_DELAY_MS = 100;
+
+    private static final ScheduledExecutorService REFRESHER = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<TokenContext> tokenSource;
+    private final long refreshAheadMs;
+    private final AtomicReference<CompletableFuture<TokenContext>> inFlight = new AtomicReference<>();
+    private final LongAdder refreshCount = new LongAdder();
+
+    private volatile TokenContext current;
+    private volatile long refreshAtMillis;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+    private volatile boolean closed;
+
+    /**
+     * Create a provider fetching tokens from {@code tokenSource} and renewing them
+     * {@code refreshAheadMs} before expiry (at most half-way through a token's lifetime)
+     */
+    public TokenProvider(Supplier<TokenContext> tokenSource, long refreshAheadMs) {
+        this.tokenSource = tokenSource;
+        this.refreshAheadMs = refreshAheadMs;
+    }
+
+    /**
+     * Create a started provider signing tokens for a user with the configured jwt.refresh.ahead.ms
+     */
+    public static TokenProvider forUser(String username, String role) {
+        TokenManager tokenManager = TokenManager.getInstance();
+        return new TokenProvider(() -> tokenManager.signToken(username, role),
+                ConfigManager.getInstance().getJwtRefreshAheadMs()).start();
+    }
+
+    /**
+     * Fetch the first token in the background so the first request does not wait for it
+     */
+    public TokenProvider start() {
+        refresh();
+        return this;
+    }
+
+    /**
+     * Get a valid token context; only blocks if no unexpired token is available yet
+     */
+    public TokenContext getContext() {
+        TokenContext context = current;
+        if (context == null || context.isExpired()) {
+            return join(refresh());
+        }
+        if (System.currentTimeMillis() >= refreshAtMillis) {
+            refresh();
+        }
+        return context;
+    }
+
+    /**
+     * Get the current token
+     */
+    public String getToken() {
+        return getContext().getToken();
+    }
+
+    /**
+     * Get authorization header value
+     */
+    public String getAuthorizationHeader() {
+        return getContext().getAuthorizationHeader();
+    }
+
+    /**
+     * Start a refresh, or join the one already in flight
+     */
+    public CompletableFuture<TokenContext> refresh() {
+        while (true) {
+            CompletableFuture<TokenContext> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<TokenContext> future = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, future)) {
+                REFRESHER.execute(() -> runRefresh(future));
+                return future;
+            }
+        }
+    }
+
+    /**
+     * Get number of completed refreshes
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> scheduled = scheduledRefresh;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    private void runRefresh(CompletableFuture<TokenContext> future) {
+        TokenContext fresh;
+        try {
+            fresh = tokenSource.get();
+        } catch (Throwable t) {
+            inFlight.set(null);
+            scheduleRefresh(RETRY_DELAY_MS);
+            future.completeExceptionally(t);
+            return;
+        }
+        if (fresh.isExpired()) {
+            inFlight.set(null);
+            scheduleRefresh(RETRY_DELAY_MS);
+            future.completeExceptionally(new IllegalStateException(
+                    "Token source returned an already expired token, retrying in " + RETRY_DELAY_MS + " ms"));
+            return;
+        }
+        long lifetime = fresh.getTimeUntilExpiration();
+        long refreshDelay = lifetime - Math.min(refreshAheadMs, lifetime / 2);
+        if (refreshDelay < MIN_REFRESH_DELAY_MS) {
+            System.err.println("Token source returned a token valid for only " + lifetime
+                    + " ms, next refresh in " + MIN_REFRESH_DELAY_MS + " ms");
+            refreshDelay = MIN_REFRESH_DELAY_MS;
+        }
+        refreshAtMillis = System.currentTimeMillis() + refreshDelay;
+        current = fresh;
+        refreshCount.increment();
+        inFlight.set(null);
+        scheduleRefresh(refreshDelay);
+        future.complete(fresh);
+    }
+
+    private void scheduleRefresh(long delayMs) {
+        if (closed) {
+            return;
+        }
+        ScheduledFuture<?> previous = scheduledRefresh;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        scheduledRefresh = REFRESHER.schedule(this::refresh, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static TokenContext join(CompletableFuture<TokenContext> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to obtain token", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.hemanth.load;
+
+import com.hemanth.core.HttpClientPool;
+import com.hemanth.load.LoadReport.Phase;
+import com.hemanth.services.UserService;
+import com.hemanth.util.TestDataContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted {@link ScenarioMix} of UserService calls according to a {@link LoadProfile}.
+ * <p>
+ * Latency is measured from each request's <em>intended</em> start time (open model, or closed
+ * model with pacing), so a slow server shows up as queueing delay instead of silently lowering
+ * the send rate - i.e. results are free of coordinated omission. Requests run on virtual threads,
+ * each virtual user (closed model) or arrival (open model) bound to its own seeded data stream.
+ * <p>
+ * Calls executing at once never exceed {@link HttpClientPool#callPermits()}, shared with every other
+ * virtual-thread caller; arrivals beyond the limit wait for a permit, which shows up in their latency.
+ */
+public class LoadGenerator {
+
+    private final UserService userService;
+    private final ScenarioMix mix;
+    private final LoadProfile profile;
+
+    public LoadGenerator(UserService userService, ScenarioMix mix, LoadProfile profile) {
+        this.userService = userService;
+        this.mix = mix;
+        this.profile = profile;
+    }
+
+    /**
+     * Run the profile to completion and return the collected report
+     */
+    public LoadReport run() {
+        LoadReport report = new LoadReport(profile.getSteadyState());
+        if (profile.getModel() == LoadProfile.Model.OPEN) {
+            runOpenModel(report);
+        } else {
+            runClosedModel(report);
+        }
+        return report;
+    }
+
+    private void runOpenModel(LoadReport report) {
+        long rampNanos = profile.getRampUp().toNanos();
+        long totalNanos = profile.getTotalDuration().toNanos();
+        double ratePerNano = profile.getTargetRps() / 1_000_000_000.0;
+        Semaphore permits = new Semaphore(profile.getMaxInFlight());
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long k = 0; ; k++) {
+                long offset = intendedOffset(k, rampNanos, ratePerNano);
+                if (offset >= totalNanos) {
+                    break;
+                }
+                long intendedStart = start + offset;
+                waitUntil(intendedStart);
+
+                Phase phase = offset < rampNanos ? Phase.RAMP_UP : Phase.STEADY_STATE;
+                Scenario scenario = mix.next();
+                String dataKey = "call-" + k;
+                executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    TestDataContext.bind(dataKey);
+                    try {
+                        execute(report, phase, scenario, intendedStart);
+                    } finally {
+                        TestDataContext.unbind();
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Offset of the k-th arrival when the rate ramps linearly from 0 to the target over rampNanos.
+     * Arrivals by time t are r*t^2/(2*ramp) during the ramp and grow by r per ns afterwards.
+     */
+    static long intendedOffset(long k, long rampNanos, double ratePerNano) {
+        double rampArrivals = ratePerNano * rampNanos / 2.0;
+        if (k < rampArrivals) {
+            return (long) Math.sqrt(2.0 * k * rampNanos / ratePerNano);
+        }
+        return rampNanos + (long) ((k - rampArrivals) / ratePerNano);
+    }
+
+    private void runClosedModel(LoadReport report) {
+        int users = profile.getUsers();
+        long rampNanos = profile.getRampUp().toNanos();
+        long start = System.nanoTime();
+        long rampEnd = start + rampNanos;
+        long end = start + profile.getTotalDuration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                long userStart = start + rampNanos * user / users;
+                String dataKey = "vuser-" + user;
+                executor.execute(() -> {
+                    TestDataContext.bind(dataKey);
+                    try {
+                        runUser(report, userStart, rampEnd, end);
+                    } finally {
+                        TestDataContext.unbind();
+                    }
+                });
+            }
+        }
+    }
+
+    private void runUser(LoadReport report, long userStart, long rampEnd, long end) {
+        long pacingNanos = profile.getPacing().toNanos();
+        long thinkNanos = profile.getThinkTime().toNanos();
+        long intendedStart = userStart;
+
+        while (true) {
+            long iterationStart = pacingNanos > 0 ? intendedStart : Math.max(intendedStart, System.nanoTime());
+            if (iterationStart >= end) {
+                return;
+            }
+            waitUntil(iterationStart);
+
+            Phase phase = iterationStart < rampEnd ? Phase.RAMP_UP : Phase.STEADY_STATE;
+            execute(report, phase, mix.next(), iterationStart);
+
+            if (pacingNanos > 0) {
+                intendedStart += pacingNanos;
+            } else {
+                intendedStart = System.nanoTime() + thinkNanos;
+            }
+        }
+    }
+
+    private void execute(LoadReport report, Phase phase, Scenario scenario, long intendedStart) {
+        boolean success = true;
+        Semaphore callPermits = HttpClientPool.callPermits();
+        callPermits.acquireUninterruptibly();
+        try {
+            scenario.execute(userService);
+        } catch (Exception | AssertionError e) {
+            // RestAssured spec mismatches surface as AssertionError, and it rethrows checked
+            // IOExceptions (e.g. ConnectionPoolTimeoutException) undeclared
+            success = false;
+        } finally {
+            callPermits.release();
+        }
+        report.record(phase, scenario.getEndpoint(), System.nanoTime() - intendedStart, success);
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
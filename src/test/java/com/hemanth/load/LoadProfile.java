@@ -0,0 +1,152 @@
+package com.hemanth.load;
+
+import java.time.Duration;
+
+/**
+ * Shape of a load run.
+ * <ul>
+ *   <li>Open model: requests arrive at {@code targetRps} regardless of how fast the server answers.</li>
+ *   <li>Closed model: {@code users} virtual users loop request → think time → request.</li>
+ * </ul>
+ * Both ramp linearly to full load over {@code rampUp}, then hold it for {@code steadyState}.
+ */
+public class LoadProfile {
+
+    public enum Model { OPEN, CLOSED }
+
+    private final Model model;
+    private final double targetRps;
+    private final int users;
+    private final Duration rampUp;
+    private final Duration steadyState;
+    private final Duration thinkTime;
+    private final Duration pacing;
+    private final int maxInFlight;
+
+    private LoadProfile(Builder builder) {
+        this.model = builder.model;
+        this.targetRps = builder.targetRps;
+        this.users = builder.users;
+        this.rampUp = builder.rampUp;
+        this.steadyState = builder.steadyState;
+        this.thinkTime = builder.thinkTime;
+        this.pacing = builder.pacing;
+        this.maxInFlight = builder.maxInFlight;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public double getTargetRps() {
+        return targetRps;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getSteadyState() {
+        return steadyState;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public Duration getPacing() {
+        return pacing;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steadyState);
+    }
+
+    /**
+     * Open model at a fixed arrival rate
+     */
+    public static Builder openModel(double targetRps) {
+        if (targetRps <= 0) {
+            throw new IllegalArgumentException("Target RPS must be positive: " + targetRps);
+        }
+        Builder builder = new Builder(Model.OPEN);
+        builder.targetRps = targetRps;
+        return builder;
+    }
+
+    /**
+     * Closed model with a fixed number of concurrent users
+     */
+    public static Builder closedModel(int users) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("Users must be positive: " + users);
+        }
+        Builder builder = new Builder(Model.CLOSED);
+        builder.users = users;
+        return builder;
+    }
+
+    public static class Builder {
+        private final Model model;
+        private double targetRps;
+        private int users;
+        private Duration rampUp = Duration.ZERO;
+        private Duration steadyState = Duration.ofSeconds(30);
+        private Duration thinkTime = Duration.ZERO;
+        private Duration pacing = Duration.ZERO;
+        private int maxInFlight = 10_000;
+
+        private Builder(Model model) {
+            this.model = model;
+        }
+
+        public Builder rampUp(Duration rampUp) {
+            this.rampUp = rampUp;
+            return this;
+        }
+
+        public Builder steadyState(Duration steadyState) {
+            this.steadyState = steadyState;
+            return this;
+        }
+
+        /**
+         * Closed model: pause between a response and the user's next request
+         */
+        public Builder thinkTime(Duration thinkTime) {
+            this.thinkTime = thinkTime;
+            return this;
+        }
+
+        /**
+         * Closed model: fixed interval between the intended starts of a user's iterations.
+         * With pacing set, latency is measured from the intended start, so a stalled server
+         * is not hidden by users that simply stop sending (coordinated omission).
+         */
+        public Builder pacing(Duration pacing) {
+            this.pacing = pacing;
+            return this;
+        }
+
+        /**
+         * Open model: cap on requests executing at once (queued arrivals still count their wait);
+         * the generator never runs more than http.pool.max.per.route calls at once either way
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public LoadProfile build() {
+            return new LoadProfile(this);
+        }
+    }
+}
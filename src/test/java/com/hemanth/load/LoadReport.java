@@ -0,0 +1,110 @@
+package com.hemanth.load;
+
+import com.hemanth.metrics.LatencyHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-phase, per-endpoint latency histograms and outcome counters of a load run
+ */
+public class LoadReport {
+
+    public enum Phase { RAMP_UP, STEADY_STATE }
+
+    private final Map<Phase, Map<String, EndpointStats>> stats = new ConcurrentHashMap<>();
+    private final Duration steadyStateDuration;
+
+    LoadReport(Duration steadyStateDuration) {
+        this.steadyStateDuration = steadyStateDuration;
+        for (Phase phase : Phase.values()) {
+            stats.put(phase, new ConcurrentHashMap<>());
+        }
+    }
+
+    void record(Phase phase, String endpoint, long latencyNanos, boolean success) {
+        EndpointStats endpointStats = stats.get(phase).computeIfAbsent(endpoint, key -> new EndpointStats());
+        endpointStats.latency.recordNanos(latencyNanos);
+        (success ? endpointStats.successes : endpointStats.errors).increment();
+    }
+
+    /**
+     * Get latency histogram (microseconds) of an endpoint in a phase, or null if never hit
+     */
+    public Histogram getLatency(Phase phase, String endpoint) {
+        EndpointStats endpointStats = stats.get(phase).get(endpoint);
+        return endpointStats != null ? endpointStats.latency.snapshot() : null;
+    }
+
+    public long getSuccessCount(Phase phase, String endpoint) {
+        EndpointStats endpointStats = stats.get(phase).get(endpoint);
+        return endpointStats != null ? endpointStats.successes.sum() : 0;
+    }
+
+    public long getErrorCount(Phase phase, String endpoint) {
+        EndpointStats endpointStats = stats.get(phase).get(endpoint);
+        return endpointStats != null ? endpointStats.errors.sum() : 0;
+    }
+
+    /**
+     * Get total requests completed in a phase across all endpoints
+     */
+    public long getTotalCount(Phase phase) {
+        return stats.get(phase).values().stream()
+                .mapToLong(endpointStats -> endpointStats.successes.sum() + endpointStats.errors.sum())
+                .sum();
+    }
+
+    /**
+     * Get achieved steady-state throughput in requests per second
+     */
+    public double getSteadyStateRps() {
+        double seconds = steadyStateDuration.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? getTotalCount(Phase.STEADY_STATE) / seconds : 0;
+    }
+
+    /**
+     * Render the report as a table, latencies in milliseconds
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            Map<String, EndpointStats> phaseStats = new TreeMap<>(stats.get(phase));
+            if (phaseStats.isEmpty()) {
+                continue;
+            }
+            sb.append(phase).append('\n');
+            sb.append(String.format("%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "p50", "p90", "p99", "p999", "max"));
+            for (Map.Entry<String, EndpointStats> entry : phaseStats.entrySet()) {
+                Histogram histogram = entry.getValue().latency.snapshot();
+                sb.append(String.format("%-28s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        entry.getKey(),
+                        entry.getValue().successes.sum() + entry.getValue().errors.sum(),
+                        entry.getValue().errors.sum(),
+                        LatencyHistogram.toMillis(histogram.getValueAtPercentile(50)),
+                        LatencyHistogram.toMillis(histogram.getValueAtPercentile(90)),
+                        LatencyHistogram.toMillis(histogram.getValueAtPercentile(99)),
+                        LatencyHistogram.toMillis(histogram.getValueAtPercentile(99.9)),
+                        LatencyHistogram.toMillis(histogram.getMaxValue())));
+            }
+        }
+        sb.append(String.format("steady-state throughput: %.1f req/s%n", getSteadyStateRps()));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static final class EndpointStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,73 @@
+package com.hemanth.load;
+
+import com.hemanth.models.User;
+import com.hemanth.services.UserService;
+import com.hemanth.util.TestDataBuilder;
+
+import java.util.function.Consumer;
+
+/**
+ * A single weighted step of a load mix, built from a {@link UserService} call.
+ * The endpoint label is the key latencies are reported under.
+ */
+public class Scenario {
+
+    private final String endpoint;
+    private final int weight;
+    private final Consumer<UserService> action;
+
+    public Scenario(String endpoint, int weight, Consumer<UserService> action) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Scenario weight must be positive: " + weight);
+        }
+        this.endpoint = endpoint;
+        this.weight = weight;
+        this.action = action;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void execute(UserService userService) {
+        action.accept(userService);
+    }
+
+    /**
+     * POST /api/users with a random user
+     */
+    public static Scenario createUser(int weight) {
+        return new Scenario("POST /api/users", weight, service -> {
+            User user = TestDataBuilder.buildRandomUser();
+            service.createUser(user);
+        });
+    }
+
+    /**
+     * GET /api/users?page=..&per_page=..
+     */
+    public static Scenario getAllUsers(int weight, int page, int perPage) {
+        return new Scenario("GET /api/users", weight, service -> service.getAllUsers(page, perPage));
+    }
+
+    /**
+     * PUT /api/users/{id} with a random user
+     */
+    public static Scenario updateUser(int weight, int userId) {
+        return new Scenario("PUT /api/users/{id}", weight, service -> {
+            User user = TestDataBuilder.buildRandomUser();
+            service.updateUser(userId, user);
+        });
+    }
+
+    /**
+     * DELETE /api/users/{id}
+     */
+    public static Scenario deleteUser(int weight, int userId) {
+        return new Scenario("DELETE /api/users/{id}", weight, service -> service.deleteUser(userId));
+    }
+}
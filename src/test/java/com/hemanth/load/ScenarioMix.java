@@ -0,0 +1,60 @@
+package com.hemanth.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted mix of scenarios; picking is a binary search over cumulative weights
+ */
+public class ScenarioMix {
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private ScenarioMix(List<Scenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Scenario mix needs at least one scenario");
+        }
+        this.scenarios = scenarios.toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[this.scenarios.length];
+        int total = 0;
+        for (int i = 0; i < this.scenarios.length; i++) {
+            total += this.scenarios[i].getWeight();
+            cumulativeWeights[i] = total;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Pick a scenario according to the weights
+     */
+    public Scenario next() {
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        int index = Arrays.binarySearch(cumulativeWeights, point + 1);
+        return scenarios[index >= 0 ? index : -index - 1];
+    }
+
+    public List<Scenario> getScenarios() {
+        return List.of(scenarios);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<Scenario> scenarios = new ArrayList<>();
+
+        public Builder add(Scenario scenario) {
+            scenarios.add(scenario);
+            return this;
+        }
+
+        public ScenarioMix build() {
+            return new ScenarioMix(scenarios);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hemanth.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes concrete request paths to endpoint templates, e.g. /api/users/42 → /api/users/{id},
+ * so metrics are keyed per endpoint rather than per resource id
+ */
+public final class EndpointTemplates {
+
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern UUID = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern HEX_ID = Pattern.compile("[0-9a-fA-F]{16,}");
+
+    private EndpointTemplates() {
+    }
+
+    /**
+     * Strip scheme/host and query string, and replace id-like path segments with {id}
+     */
+    public static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+
+        String[] segments = path.split("/", -1);
+        StringBuilder template = new StringBuilder(path.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                template.append('/');
+            }
+            template.append(isId(segments[i]) ? "{id}" : segments[i]);
+        }
+        return template.toString();
+    }
+
+    private static boolean isId(String segment) {
+        return !segment.isEmpty()
+                && (NUMERIC.matcher(segment).matches()
+                || UUID.matcher(segment).matches()
+                || HEX_ID.matcher(segment).matches());
+    }
+}
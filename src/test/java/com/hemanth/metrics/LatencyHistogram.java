@@ -0,0 +1,55 @@
+package com.hemanth.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram backed by an HdrHistogram {@link Recorder}.
+ * Recording is wait-free and safe from any number of threads; values are kept in microseconds.
+ */
+public class LatencyHistogram {
+
+    // 1 hour in microseconds, 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram accumulated = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    /**
+     * Record a latency measured in nanoseconds
+     */
+    public void recordNanos(long latencyNanos) {
+        recorder.recordValue(toMicros(latencyNanos));
+    }
+
+    /**
+     * Record a latency and back-fill the samples a blocked closed-loop caller could not issue
+     */
+    public void recordNanos(long latencyNanos, long expectedIntervalNanos) {
+        recorder.recordValueWithExpectedInterval(toMicros(latencyNanos), toMicros(expectedIntervalNanos));
+    }
+
+    /**
+     * Get a copy of everything recorded so far
+     */
+    public synchronized Histogram snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        accumulated.add(interval);
+        return accumulated.copy();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Format a histogram value (microseconds) as milliseconds
+     */
+    public static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.hemanth.metrics;
+
+import com.google.common.base.Utf8;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.RestAssuredResponseOptionsImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * RestAssured filter recording latency, status and payload sizes of every call into {@link RequestMetrics}
+ */
+public class MetricsFilter implements Filter {
+
+    public static final MetricsFilter INSTANCE = new MetricsFilter();
+
+    private final RequestMetrics metrics = RequestMetrics.getInstance();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // HttpClient's checked connect, DNS and pool-timeout exceptions are rethrown undeclared
+            metrics.record(requestSpec.getMethod(), requestSpec.getUserDefinedPath(),
+                    System.nanoTime() - start, -1, requestSize(requestSpec), 0);
+            throw e;
+        }
+        long contentLength = contentLength(response);
+        metrics.record(requestSpec.getMethod(), requestSpec.getUserDefinedPath(), System.nanoTime() - start,
+                response.getStatusCode(), requestSize(requestSpec), Math.max(contentLength, 0));
+        if (contentLength < 0) {
+            countBodyAsRead(response, requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        }
+        return response;
+    }
+
+    private static long requestSize(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return Utf8.encodedLength(body.toString());
+    }
+
+    /**
+     * Response size from Content-Length, or -1 if unknown (chunked or compressed)
+     */
+    private static long contentLength(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength);
+            } catch (NumberFormatException ignored) {
+                // malformed header, treat as unknown
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Size a body of unknown length as the caller reads it: reading it here would buffer the whole
+     * body and break callers that stream it
+     */
+    private void countBodyAsRead(Response response, String method, String path) {
+        if (!(response instanceof RestAssuredResponseOptionsImpl)) {
+            return;
+        }
+        RestAssuredResponseOptionsImpl<?> options = (RestAssuredResponseOptionsImpl<?>) response;
+        Object content = options.getContent();
+        if (content instanceof byte[]) {
+            metrics.recordResponseBytes(method, path, ((byte[]) content).length);
+        } else if (content instanceof InputStream) {
+            options.setContent(new CountingInputStream((InputStream) content,
+                    bytes -> metrics.recordResponseBytes(method, path, bytes)));
+        }
+    }
+
+    /**
+     * Counts the bytes read and reports them once, at the end of the stream or on close
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongConsumer onDone;
+        private long count;
+        private boolean reported;
+
+        private CountingInputStream(InputStream in, LongConsumer onDone) {
+            super(in);
+            this.onDone = onDone;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value < 0) {
+                report();
+            } else {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read < 0) {
+                report();
+            } else {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            report();
+            super.close();
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                onDone.accept(count);
+            }
+        }
+    }
+}
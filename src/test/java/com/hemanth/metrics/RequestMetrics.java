@@ -0,0 +1,204 @@
+package com.hemanth.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of per-endpoint request metrics, keyed by HTTP method and endpoint template.
+ * Recording is lock-free: a map lookup, a histogram record and a few LongAdder increments.
+ */
+public class RequestMetrics {
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<CallRecord> lastCall = new ThreadLocal<>();
+
+    private RequestMetrics() {
+    }
+
+    private static final class Holder {
+        private static final RequestMetrics INSTANCE = new RequestMetrics();
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static RequestMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Record one completed call (statusCode -1 = no response, e.g. connection failure)
+     */
+    public void record(String method, String path, long latencyNanos, int statusCode,
+                       long requestBytes, long responseBytes) {
+        String endpoint = EndpointTemplates.normalize(path);
+        endpoints.computeIfAbsent(method + " " + endpoint, key -> new EndpointMetrics(method, endpoint))
+                .record(latencyNanos, statusCode, requestBytes, responseBytes);
+        lastCall.set(new CallRecord(method, path, latencyNanos, statusCode));
+    }
+
+    /**
+     * Add response bytes counted after the call was recorded, e.g. a chunked body as it is read
+     */
+    public void recordResponseBytes(String method, String path, long bytes) {
+        EndpointMetrics metrics = endpoints.get(method + " " + EndpointTemplates.normalize(path));
+        if (metrics != null) {
+            metrics.responseBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Get the last call recorded on the calling thread, or null
+     */
+    public CallRecord getLastCall() {
+        return lastCall.get();
+    }
+
+    /**
+     * Forget the calling thread's last call, e.g. before the next test runs on it
+     */
+    public void clearLastCall() {
+        lastCall.remove();
+    }
+
+    /**
+     * Get metrics of all endpoints sorted by key
+     */
+    public List<EndpointMetrics> getEndpoints() {
+        return new ArrayList<>(new TreeMap<>(endpoints).values());
+    }
+
+    /**
+     * Get metrics for one endpoint template, or null
+     */
+    public EndpointMetrics getEndpoint(String method, String endpointTemplate) {
+        return endpoints.get(method + " " + endpointTemplate);
+    }
+
+    /**
+     * Drop everything recorded so far
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Metrics of a single method + endpoint template
+     */
+    public static class EndpointMetrics {
+        private final String method;
+        private final String endpoint;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+        EndpointMetrics(String method, String endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        void record(long latencyNanos, int statusCode, long requestSize, long responseSize) {
+            latency.recordNanos(latencyNanos);
+            count.increment();
+            requestBytes.add(requestSize);
+            responseBytes.add(responseSize);
+            statusCodes.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Get number of calls that got no response or a status of 400 and above
+         */
+        public long getErrorCount() {
+            long errors = 0;
+            for (Map.Entry<Integer, LongAdder> entry : statusCodes.entrySet()) {
+                if (entry.getKey() < 0 || entry.getKey() >= 400) {
+                    errors += entry.getValue().sum();
+                }
+            }
+            return errors;
+        }
+
+        public long getRequestBytes() {
+            return requestBytes.sum();
+        }
+
+        public long getResponseBytes() {
+            return responseBytes.sum();
+        }
+
+        /**
+         * Get call count per status code
+         */
+        public Map<Integer, Long> getStatusCodes() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statusCodes.forEach((status, adder) -> counts.put(status, adder.sum()));
+            return Collections.unmodifiableMap(counts);
+        }
+
+        /**
+         * Get latency histogram in microseconds
+         */
+        public Histogram getLatency() {
+            return latency.snapshot();
+        }
+    }
+
+    /**
+     * Summary of a single call, kept per thread for failure diagnostics
+     */
+    public static final class CallRecord {
+        private final String method;
+        private final String path;
+        private final long latencyNanos;
+        private final int statusCode;
+
+        CallRecord(String method, String path, long latencyNanos, int statusCode) {
+            this.method = method;
+            this.path = path;
+            this.latencyNanos = latencyNanos;
+            this.statusCode = statusCode;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + path + " -> " + statusCode + " in " + (latencyNanos / 1_000_000) + " ms";
+        }
+    }
+}
@@ -1,55 +1,175 @@
 package com.hemanth.mock;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.VerificationException;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.hemanth.config.ConfigManager;
 import com.hemanth.util.JsonUtils;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
 /**
- * Mock Server using WireMock for stubbing unavailable dependencies and simulating responses
+ * Mock Server using WireMock for stubbing unavailable dependencies and simulating responses.
+ * Lifecycle methods are synchronized so parallel test classes can share one server.
+ * Stubs and verifications go through the owning WireMockServer rather than the static
+ * WireMock client, so isolated instances from {@link #newInstance(int)} never interfere.
+ * <p>
+ * The performance profile (mock.server.profile=performance, or {@link #newPerformanceInstance(int)})
+ * sizes Jetty for load tests and drops per-request overhead: gzip, stub request logging and, while
+ * requests are counted, the request journal are off. Each option can be overridden with the
+ * mock.server.* properties.
+ * <p>
+ * In counting mode (on with the performance profile, or mock.server.request.counting=true) a serve event
+ * listener bumps a {@link LongAdder} per method and URL it served, matched or not, so memory only grows
+ * with the number of distinct URLs. {@link #verifyRequest} / {@link #verifyRequestCount} are then a single
+ * map lookup instead of a scan of the journal, which is disabled.
  */
 public class MockServer {
     
-    private static MockServer instance;
-    private WireMockServer wireMockServer;
+    private volatile WireMockServer wireMockServer;
     private final ConfigManager config;
+    private final int port;
+    private final boolean shared;
+    private final boolean performance;
+    private final boolean counting;
+    // "METHOD url" -> requests served; LongAdder keeps concurrent increments off a single cache line
+    private final Map<String, LongAdder> requestHits = new ConcurrentHashMap<>();
+    private final LongAdder unmatchedHits = new LongAdder();
     
-    private MockServer() {
+    private MockServer(int port, boolean shared, boolean performance) {
         this.config = ConfigManager.getInstance();
+        this.port = port;
+        this.shared = shared;
+        this.performance = performance;
+        Boolean counting = config.getMockServerRequestCounting();
+        this.counting = counting != null ? counting : performance;
+    }
+    
+    private static final class Holder {
+        private static final MockServer INSTANCE = new MockServer(
+                ConfigManager.getInstance().getMockServerPort(), true,
+                ConfigManager.getInstance().isMockServerPerformanceProfile());
     }
     
     /**
      * Get singleton instance
      */
-    public static synchronized MockServer getInstance() {
-        if (instance == null) {
-            instance = new MockServer();
+    public static MockServer getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Create an isolated mock server, e.g. for tests that must not share stubs (port 0 = any free port)
+     */
+    public static MockServer newInstance(int port) {
+        return new MockServer(port, false, ConfigManager.getInstance().isMockServerPerformanceProfile());
+    }
+    
+    /**
+     * Create an isolated mock server with the performance profile, e.g. as a load-test target
+     */
+    public static MockServer newPerformanceInstance(int port) {
+        return new MockServer(port, false, true);
+    }
+    
+    private WireMockServer server() {
+        WireMockServer server = wireMockServer;
+        if (server == null) {
+            throw new IllegalStateException("Mock server is not started");
         }
-        return instance;
+        return server;
     }
     
     /**
      * Start the mock server
      */
-    public void start() {
+    public synchronized void start() {
         if (wireMockServer == null || !wireMockServer.isRunning()) {
-            int port = config.getMockServerPort();
-            wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(port));
+            wireMockServer = new WireMockServer(buildOptions());
+            clearHits();
             wireMockServer.start();
-            WireMock.configureFor("localhost", port);
-            System.out.println("Mock server started on port: " + port);
+            if (shared) {
+                WireMock.configureFor("localhost", wireMockServer.port());
+            }
+            System.out.println("Mock server started on port: " + wireMockServer.port());
+        }
+    }
+    
+    private WireMockConfiguration buildOptions() {
+        WireMockConfiguration options = port == 0
+                ? WireMockConfiguration.wireMockConfig().dynamicPort()
+                : WireMockConfiguration.wireMockConfig().port(port);
+        int cpus = Runtime.getRuntime().availableProcessors();
+        
+        // Stub matching runs on the Jetty container threads, so they bound the requests served at once
+        Integer containerThreads = config.getMockServerContainerThreads();
+        if (containerThreads != null || performance) {
+            options.containerThreads(containerThreads != null ? containerThreads : Math.max(64, cpus * 8));
+        }
+        Integer acceptors = config.getMockServerAcceptors();
+        if (acceptors != null || performance) {
+            options.jettyAcceptors(acceptors != null ? acceptors : Math.max(2, cpus / 4));
+        }
+        if (performance) {
+            options.jettyAcceptQueueSize(1024);
+        }
+        // Dedicated pool for writing (delayed) responses, so a slow stub does not hold a container thread
+        Integer asyncThreads = config.getMockServerAsyncResponseThreads();
+        int responseThreads = asyncThreads != null ? asyncThreads : (performance ? cpus * 2 : 0);
+        if (responseThreads > 0) {
+            options.asynchronousResponseEnabled(true).asynchronousResponseThreads(responseThreads);
         }
+        
+        Boolean gzip = config.getMockServerGzipEnabled();
+        if (gzip != null ? !gzip : performance) {
+            options.gzipDisabled(true);
+        }
+        // verifyRequest / verifyRequestCount need the journal unless requests are counted
+        Boolean journal = config.getMockServerJournalEnabled();
+        if (journal != null && !journal && !counting) {
+            throw new IllegalStateException("mock.server.journal.enabled=false requires "
+                    + "mock.server.request.counting=true, otherwise requests cannot be verified");
+        }
+        if (journal != null ? !journal : counting) {
+            options.disableRequestJournal();
+        }
+        if (performance) {
+            options.stubRequestLoggingDisabled(true);
+        }
+        if (counting) {
+            options.extensions(new StubHitCounter());
+        }
+        return options;
+    }
+    
+    /**
+     * Whether the server runs with the performance profile
+     */
+    public boolean isPerformanceProfile() {
+        return performance;
+    }
+    
+    /**
+     * Whether requests are counted per method and URL instead of verified against the journal
+     */
+    public boolean isRequestCounting() {
+        return counting;
     }
     
     /**
      * Stop the mock server
      */
-    public void stop() {
+    public synchronized void stop() {
         if (wireMockServer != null && wireMockServer.isRunning()) {
             wireMockServer.stop();
             System.out.println("Mock server stopped");
@@ -59,9 +179,10 @@ public class MockServer {
     /**
      * Reset all stubs
      */
-    public void reset() {
+    public synchronized void reset() {
         if (wireMockServer != null && wireMockServer.isRunning()) {
-            WireMock.reset();
+            wireMockServer.resetAll();
+            clearHits();
             System.out.println("Mock server stubs reset");
         }
     }
@@ -70,14 +191,14 @@ public class MockServer {
      * Get mock server base URL
      */
     public String getBaseUrl() {
-        return "http://localhost:" + config.getMockServerPort();
+        return "http://localhost:" + (isRunning() ? getPort() : port);
     }
     
     /**
      * Stub a GET endpoint
      */
     public void stubGet(String url, int statusCode, String responseBody) {
-        stubFor(get(urlEqualTo(url))
+        server().stubFor(get(urlEqualTo(url))
                 .willReturn(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
@@ -88,7 +209,7 @@ public class MockServer {
      * Stub a POST endpoint
      */
     public void stubPost(String url, int statusCode, String responseBody) {
-        stubFor(post(urlEqualTo(url))
+        server().stubFor(post(urlEqualTo(url))
                 .willReturn(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
@@ -99,7 +220,7 @@ public class MockServer {
      * Stub a PUT endpoint
      */
     public void stubPut(String url, int statusCode, String responseBody) {
-        stubFor(put(urlEqualTo(url))
+        server().stubFor(put(urlEqualTo(url))
                 .willReturn(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
@@ -110,7 +231,7 @@ public class MockServer {
      * Stub a DELETE endpoint
      */
     public void stubDelete(String url, int statusCode, String responseBody) {
-        stubFor(delete(urlEqualTo(url))
+        server().stubFor(delete(urlEqualTo(url))
                 .willReturn(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
@@ -146,7 +267,7 @@ public class MockServer {
     public void stubWithDelay(String method, String url, int statusCode, String responseBody, int delayMs) {
         switch (method.toUpperCase()) {
             case "GET":
-                stubFor(get(urlEqualTo(url))
+                server().stubFor(get(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -154,7 +275,7 @@ public class MockServer {
                                 .withFixedDelay(delayMs)));
                 break;
             case "POST":
-                stubFor(post(urlEqualTo(url))
+                server().stubFor(post(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -162,7 +283,7 @@ public class MockServer {
                                 .withFixedDelay(delayMs)));
                 break;
             case "PUT":
-                stubFor(put(urlEqualTo(url))
+                server().stubFor(put(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -170,7 +291,7 @@ public class MockServer {
                                 .withFixedDelay(delayMs)));
                 break;
             case "DELETE":
-                stubFor(delete(urlEqualTo(url))
+                server().stubFor(delete(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -188,19 +309,19 @@ public class MockServer {
     public void stubWithFault(String method, String url, String faultType) {
         switch (method.toUpperCase()) {
             case "GET":
-                stubFor(get(urlEqualTo(url))
+                server().stubFor(get(urlEqualTo(url))
                         .willReturn(aResponse().withStatus(500).withBody("Simulated fault: " + faultType)));
                 break;
             case "POST":
-                stubFor(post(urlEqualTo(url))
+                server().stubFor(post(urlEqualTo(url))
                         .willReturn(aResponse().withStatus(500).withBody("Simulated fault: " + faultType)));
                 break;
             case "PUT":
-                stubFor(put(urlEqualTo(url))
+                server().stubFor(put(urlEqualTo(url))
                         .willReturn(aResponse().withStatus(500).withBody("Simulated fault: " + faultType)));
                 break;
             case "DELETE":
-                stubFor(delete(urlEqualTo(url))
+                server().stubFor(delete(urlEqualTo(url))
                         .willReturn(aResponse().withStatus(500).withBody("Simulated fault: " + faultType)));
                 break;
             default:
@@ -215,7 +336,7 @@ public class MockServer {
                                           int statusCode, String responseBody) {
         switch (method.toUpperCase()) {
             case "POST":
-                stubFor(post(urlEqualTo(url))
+                server().stubFor(post(urlEqualTo(url))
                         .withRequestBody(matching(requestBodyPattern))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
@@ -223,7 +344,7 @@ public class MockServer {
                                 .withBody(responseBody)));
                 break;
             case "PUT":
-                stubFor(put(urlEqualTo(url))
+                server().stubFor(put(urlEqualTo(url))
                         .withRequestBody(matching(requestBodyPattern))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
@@ -242,7 +363,7 @@ public class MockServer {
                                   int statusCode, String responseBody) {
         switch (method.toUpperCase()) {
             case "GET":
-                stubFor(get(urlPathEqualTo(url))
+                server().stubFor(get(urlPathEqualTo(url))
                         .withQueryParams(queryParams.entrySet().stream()
                                 .collect(java.util.stream.Collectors.toMap(
                                         Map.Entry::getKey,
@@ -265,14 +386,14 @@ public class MockServer {
                               int statusCode, String responseBody) {
         switch (method.toUpperCase()) {
             case "GET":
-                stubFor(get(urlEqualTo(url))
+                server().stubFor(get(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
                                 .withBody(responseBody)));
                 break;
             case "POST":
-                stubFor(post(urlEqualTo(url))
+                server().stubFor(post(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -290,7 +411,15 @@ public class MockServer {
                                             String responseBody, String transformFunction) {
         switch (method.toUpperCase()) {
             case "GET":
-                stubFor(get(urlEqualTo(url))
+                server().stubFor(get(urlEqualTo(url))
+                        .willReturn(aResponse()
+                                .withStatus(statusCode)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody(responseBody)
+                                .withTransformers(transformFunction)));
+                break;
+            case "POST":
+                server().stubFor(post(urlEqualTo(url))
                         .willReturn(aResponse()
                                 .withStatus(statusCode)
                                 .withHeader("Content-Type", "application/json")
@@ -298,7 +427,7 @@ public class MockServer {
                                 .withTransformers(transformFunction)));
                 break;
             default:
-                throw new IllegalArgumentException("Response transformation only supported for GET");
+                throw new IllegalArgumentException("Response transformation only supported for GET and POST");
         }
     }
     
@@ -306,18 +435,25 @@ public class MockServer {
      * Verify that a request was made
      */
     public void verifyRequest(String method, String url) {
+        if (counting) {
+            if (getRequestCount(method, url) == 0) {
+                throw new VerificationException("Expected at least one request matching: "
+                        + method.toUpperCase() + " " + url);
+            }
+            return;
+        }
         switch (method.toUpperCase()) {
             case "GET":
-                verify(getRequestedFor(urlEqualTo(url)));
+                server().verify(getRequestedFor(urlEqualTo(url)));
                 break;
             case "POST":
-                verify(postRequestedFor(urlEqualTo(url)));
+                server().verify(postRequestedFor(urlEqualTo(url)));
                 break;
             case "PUT":
-                verify(putRequestedFor(urlEqualTo(url)));
+                server().verify(putRequestedFor(urlEqualTo(url)));
                 break;
             case "DELETE":
-                verify(deleteRequestedFor(urlEqualTo(url)));
+                server().verify(deleteRequestedFor(urlEqualTo(url)));
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported HTTP method: " + method);
@@ -328,35 +464,112 @@ public class MockServer {
      * Verify request count
      */
     public void verifyRequestCount(String method, String url, int expectedCount) {
+        if (counting) {
+            long actual = getRequestCount(method, url);
+            if (actual != expectedCount) {
+                throw new VerificationException("Expected exactly " + expectedCount + " requests matching: "
+                        + method.toUpperCase() + " " + url + " but received " + actual
+                        + " (" + getUnmatchedRequestCount() + " unmatched requests in total)");
+            }
+            return;
+        }
         switch (method.toUpperCase()) {
             case "GET":
-                verify(expectedCount, getRequestedFor(urlEqualTo(url)));
+                server().verify(expectedCount, getRequestedFor(urlEqualTo(url)));
                 break;
             case "POST":
-                verify(expectedCount, postRequestedFor(urlEqualTo(url)));
+                server().verify(expectedCount, postRequestedFor(urlEqualTo(url)));
                 break;
             case "PUT":
-                verify(expectedCount, putRequestedFor(urlEqualTo(url)));
+                server().verify(expectedCount, putRequestedFor(urlEqualTo(url)));
                 break;
             case "DELETE":
-                verify(expectedCount, deleteRequestedFor(urlEqualTo(url)));
+                server().verify(expectedCount, deleteRequestedFor(urlEqualTo(url)));
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported HTTP method: " + method);
         }
     }
     
+    /**
+     * Requests received since start or the last reset for a method and URL (path and query, as sent),
+     * whether or not a stub matched them. Counting mode only.
+     */
+    public long getRequestCount(String method, String url) {
+        requireCounting();
+        LongAdder hits = requestHits.get(requestKey(validMethod(method), url));
+        return hits != null ? hits.sum() : 0;
+    }
+    
+    /**
+     * Requests no stub matched since start or the last reset; counting mode only
+     */
+    public long getUnmatchedRequestCount() {
+        requireCounting();
+        return unmatchedHits.sum();
+    }
+    
+    private void requireCounting() {
+        if (!counting) {
+            throw new IllegalStateException("Request counting is disabled (mock.server.request.counting)");
+        }
+    }
+    
+    private void clearHits() {
+        requestHits.clear();
+        unmatchedHits.reset();
+    }
+    
+    private static String requestKey(RequestMethod method, String url) {
+        return method.getName() + " " + url;
+    }
+    
+    private static RequestMethod validMethod(String method) {
+        switch (method.toUpperCase()) {
+            case "GET":
+            case "POST":
+            case "PUT":
+            case "DELETE":
+                return RequestMethod.fromString(method.toUpperCase());
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+    }
+    
+    /**
+     * Counts each served request against its method and URL, before the response is sent
+     */
+    private final class StubHitCounter implements ServeEventListener {
+        
+        @Override
+        public void afterMatch(ServeEvent serveEvent, Parameters parameters) {
+            LoggedRequest request = serveEvent.getRequest();
+            requestHits.computeIfAbsent(requestKey(request.getMethod(), request.getUrl()), key -> new LongAdder())
+                    .increment();
+            if (!serveEvent.getWasMatched()) {
+                unmatchedHits.increment();
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "stub-hit-counter";
+        }
+    }
+    
     /**
      * Check if server is running
      */
     public boolean isRunning() {
-        return wireMockServer != null && wireMockServer.isRunning();
+        WireMockServer server = wireMockServer;
+        return server != null && server.isRunning();
     }
     
     /**
      * Get server port
      */
     public int getPort() {
-        return wireMockServer != null ? wireMockServer.port() : -1;
+        WireMockServer server = wireMockServer;
+        return server != null ? server.port() : -1;
     }
 }
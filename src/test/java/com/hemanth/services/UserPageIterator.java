@@ -0,0 +1,118 @@
+package com.hemanth.services;
+
+import com.hemanth.models.ApiResponse;
+import com.hemanth.models.User;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Lazily walks every page of GET /api/users, one user at a time.
+ * <p>
+ * Only the current page is held in memory. Once the first page reveals total_pages, up to
+ * {@code prefetch} following pages are requested ahead while the current one is consumed.
+ * Without total_pages, pages are fetched one by one until an empty page is returned.
+ * Not thread-safe: consume from a single thread and close it if abandoned early.
+ */
+public class UserPageIterator implements Iterator<User>, AutoCloseable {
+
+    private final IntFunction<CompletableFuture<ApiResponse<List<User>>>> pageFetcher;
+    private final int prefetch;
+    private final Deque<CompletableFuture<ApiResponse<List<User>>>> pending = new ArrayDeque<>();
+
+    private Iterator<User> currentPage = Collections.emptyIterator();
+    private int nextPageToRequest = 1;
+    private Integer totalPages;
+    private boolean exhausted;
+
+    UserPageIterator(IntFunction<CompletableFuture<ApiResponse<List<User>>>> pageFetcher, int prefetch) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("prefetch must be >= 0, got " + prefetch);
+        }
+        this.pageFetcher = pageFetcher;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            if (pending.isEmpty()) {
+                if (totalPages != null && nextPageToRequest > totalPages) {
+                    close();
+                    return false;
+                }
+                requestNextPage();
+            }
+
+            ApiResponse<List<User>> page = join(pending.pollFirst());
+            if (page.getTotalPages() != null) {
+                totalPages = page.getTotalPages();
+            }
+            List<User> users = page.getData();
+            if (users == null || users.isEmpty()) {
+                close();
+                return false;
+            }
+            currentPage = users.iterator();
+            fillPrefetchWindow();
+        }
+        return true;
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * Get total pages reported by the API, or null before the first page arrives
+     */
+    public Integer getTotalPages() {
+        return totalPages;
+    }
+
+    /**
+     * Cancel prefetched pages that have not been consumed
+     */
+    @Override
+    public void close() {
+        exhausted = true;
+        pending.forEach(future -> future.cancel(true));
+        pending.clear();
+    }
+
+    private void requestNextPage() {
+        pending.addLast(pageFetcher.apply(nextPageToRequest++));
+    }
+
+    private void fillPrefetchWindow() {
+        while (totalPages != null && pending.size() < prefetch && nextPageToRequest <= totalPages) {
+            requestNextPage();
+        }
+    }
+
+    private ApiResponse<List<User>> join(CompletableFuture<ApiResponse<List<User>>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to fetch users page", e.getCause());
+        }
+    }
+}
@@ -1,21 +1,47 @@
 package com.hemanth.services;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.hemanth.config.ConfigManager;
 import com.hemanth.core.RequestFactory;
+import com.hemanth.models.ApiResponse;
 import com.hemanth.models.User;
 import com.hemanth.util.JsonUtils;
 import io.restassured.response.Response;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service layer abstraction for User API operations
  */
 public class UserService {
     
+    private static final TypeReference<ApiResponse<List<User>>> USER_PAGE = new TypeReference<>() {};
+    
     private final RequestFactory requestFactory;
     
     public UserService() {
-        this.requestFactory = new RequestFactory();
+        this(new RequestFactory());
+    }
+    
+    /**
+     * Create a service on top of a specific factory, e.g. one targeting the mock server
+     */
+    public UserService(RequestFactory requestFactory) {
+        this.requestFactory = requestFactory;
     }
     
     /**
@@ -43,11 +69,75 @@ public class UserService {
      * Get all users with pagination
      */
     public Response getAllUsers(int page, int perPage) {
-        Map<String, String> queryParams = Map.of(
+        return requestFactory.getWithQueryParams("/api/users", pageParams(page, perPage));
+    }
+    
+    /**
+     * Get one page of users deserialized with its paging metadata
+     */
+    public ApiResponse<List<User>> getUsersPage(int page, int perPage) {
+        return JsonUtils.fromJsonInputStream(getAllUsers(page, perPage).getBody().asInputStream(), USER_PAGE);
+    }
+    
+    /**
+     * Get one page of users asynchronously
+     */
+    public CompletableFuture<ApiResponse<List<User>>> getUsersPageAsync(int page, int perPage) {
+        return requestFactory.getWithQueryParamsAsync("/api/users", pageParams(page, perPage))
+                .thenApply(response -> JsonUtils.fromJsonInputStream(response.getBody().asInputStream(), USER_PAGE));
+    }
+    
+    /**
+     * Lazily iterate users across all pages using pagination.page.size and pagination.prefetch
+     */
+    public UserPageIterator iterateAllUsers() {
+        ConfigManager config = ConfigManager.getInstance();
+        return iterateAllUsers(config.getPaginationPageSize(), config.getPaginationPrefetch());
+    }
+    
+    /**
+     * Lazily iterate users across all pages, requesting up to {@code prefetch} pages ahead
+     * concurrently (0 = fetch each page on demand on the calling thread)
+     */
+    public UserPageIterator iterateAllUsers(int perPage, int prefetch) {
+        IntFunction<CompletableFuture<ApiResponse<List<User>>>> pageFetcher = prefetch > 0
+                ? page -> getUsersPageAsync(page, perPage)
+                : page -> CompletableFuture.completedFuture(getUsersPage(page, perPage));
+        return new UserPageIterator(pageFetcher, prefetch);
+    }
+    
+    /**
+     * Iterable over all users; every iteration walks the pages again
+     */
+    public Iterable<User> allUsers(int perPage, int prefetch) {
+        return () -> iterateAllUsers(perPage, prefetch);
+    }
+    
+    /**
+     * Stream users across all pages using the configured page size and prefetch; use in try-with-resources
+     */
+    public Stream<User> streamAllUsers() {
+        return toStream(iterateAllUsers());
+    }
+    
+    /**
+     * Stream users across all pages; use in try-with-resources so prefetched pages are cancelled
+     */
+    public Stream<User> streamAllUsers(int perPage, int prefetch) {
+        return toStream(iterateAllUsers(perPage, prefetch));
+    }
+    
+    private static Stream<User> toStream(UserPageIterator iterator) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+    
+    private static Map<String, String> pageParams(int page, int perPage) {
+        return Map.of(
             "page", String.valueOf(page),
             "per_page", String.valueOf(perPage)
         );
-        return requestFactory.getWithQueryParams("/api/users", queryParams);
     }
     
     /**
@@ -165,6 +255,33 @@ public class UserService {
         return requestFactory.post("/api/users/bulk", users);
     }
     
+    /**
+     * Bulk create users from an NDJSON or JSON-array file (e.g. from BulkUserGenerator), streaming it in
+     * batches of {@code batchSize}; fails on the first non-2xx batch. Returns the number of users sent.
+     */
+    public long bulkCreateUsersFromFile(Path file, int batchSize) {
+        long sent = 0;
+        try (InputStream in = Files.newInputStream(file);
+             MappingIterator<User> users = JsonUtils.readerFor(User.class).readValues(in)) {
+            List<User> batch = new ArrayList<>(batchSize);
+            while (users.hasNext()) {
+                batch.add(users.next());
+                if (batch.size() == batchSize || !users.hasNext()) {
+                    Response response = bulkCreateUsers(batch);
+                    if (response.getStatusCode() >= 300) {
+                        throw new RuntimeException("Bulk create failed after " + sent + " users: HTTP "
+                                + response.getStatusCode());
+                    }
+                    sent += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read users from " + file, e);
+        }
+        return sent;
+    }
+    
     /**
      * Bulk update users
      */
@@ -217,18 +334,44 @@ public class UserService {
     }
     
     /**
-     * Extract user from response
+     * Extract user from response, parsing the body stream without building a String copy
      */
     public User extractUserFromResponse(Response response) {
-        String responseBody = response.getBody().asString();
-        return JsonUtils.fromJson(responseBody, User.class);
+        return JsonUtils.fromJsonInputStream(response.getBody().asInputStream(), User.class);
     }
     
     /**
-     * Extract users list from response
+     * Extract users list from response (a top-level array or a paginated "data" array)
      */
     public java.util.List<User> extractUsersListFromResponse(Response response) {
-        String responseBody = response.getBody().asString();
-        return JsonUtils.fromJsonToList(responseBody, User.class);
+        java.util.List<User> users = new java.util.ArrayList<>();
+        iterateUsersFromResponse(response).forEachRemaining(users::add);
+        return users;
+    }
+    
+    /**
+     * Iterate users from response one at a time, so the parsed User list is never materialized.
+     * Reads the raw body stream; memory only stays flat if the response was not buffered, i.e. it was
+     * not validated with spec() or logged (see {@link #streamUsersPage}).
+     * Close the iterator if it is abandoned before the end.
+     */
+    public JsonUtils.JsonArrayIterator<User> iterateUsersFromResponse(Response response) {
+        return JsonUtils.iterateJsonArray(response.getBody().asInputStream(), User.class);
+    }
+    
+    /**
+     * Stream users from response one at a time; use in try-with-resources.
+     * Like {@link #iterateUsersFromResponse}, memory only stays flat for an unbuffered response.
+     */
+    public Stream<User> streamUsersFromResponse(Response response) {
+        return JsonUtils.streamJsonArray(response.getBody().asInputStream(), User.class);
+    }
+    
+    /**
+     * Stream one page of users straight from the connection, so pages larger than the heap can be read;
+     * use in try-with-resources
+     */
+    public Stream<User> streamUsersPage(int page, int perPage) {
+        return streamUsersFromResponse(requestFactory.getUnbuffered("/api/users", pageParams(page, perPage)));
     }
 }
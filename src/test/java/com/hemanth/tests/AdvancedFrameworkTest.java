@@ -18,8 +18,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 /**
- * Comprehensive test class demonstrating all advanced framework features
+ * Comprehensive test class demonstrating all advanced framework features.
+ * Runs single-threaded because every method resets the shared mock server stubs.
  */
+@Test(singleThreaded = true)
 public class AdvancedFrameworkTest extends BaseTest {
     
     private MockServer mockServer;
@@ -82,8 +84,8 @@ public class AdvancedFrameworkTest extends BaseTest {
         
         assertThat(randomUserPayload, hasKey("name"));
         assertThat(randomUserPayload, hasKey("job"));
-        assertThat(randomUserPayload.get("name"), is(not(emptyString())));
-        assertThat(randomUserPayload.get("job"), is(not(emptyString())));
+        assertThat((String) randomUserPayload.get("name"), is(not(emptyString())));
+        assertThat((String) randomUserPayload.get("job"), is(not(emptyString())));
         
         // Test Product payload builder
         Map<String, Object> productPayload = PayloadBuilder.product()
@@ -96,6 +98,16 @@ public class AdvancedFrameworkTest extends BaseTest {
         assertThat(productPayload.get("price"), instanceOf(Double.class));
     }
     
+    @Test
+    public void testRandomPayloadEmailsAreUniqueAcrossThreads() {
+        List<String> emails = java.util.stream.IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> (String) PayloadBuilder.user().withRandomEmail().build().get("email"))
+                .collect(java.util.stream.Collectors.toList());
+        
+        assertThat(new java.util.HashSet<>(emails), hasSize(emails.size()));
+        assertThat(emails.get(0), matchesPattern("user\\.[0-9a-z]+-[0-9a-z]+@\\w+\\.com"));
+    }
+    
     @Test
     public void testJWTTokenManagement() {
         // Generate token
@@ -124,6 +136,22 @@ public class AdvancedFrameworkTest extends BaseTest {
         }
     }
     
+    @Test
+    public void testVerifiedClaimsAreCached() {
+        String token = tokenManager.signToken("cacheuser", "viewer").getToken();
+        assertThat(tokenManager.isTokenValid(token), is(true));
+        
+        long hitsBefore = tokenManager.getClaimsCacheStats().hitCount();
+        for (int i = 0; i < 100; i++) {
+            assertThat(tokenManager.extractRole(token), equalTo("viewer"));
+        }
+        assertThat(tokenManager.getClaimsCacheStats().hitCount() - hitsBefore, greaterThanOrEqualTo(100L));
+        
+        // a token with a tampered signature never hits the cache entry of the original
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertThat(tokenManager.validateToken(tampered), is(false));
+    }
+    
     @Test
     public void testFactoryPatternWithRequestFactory() {
         // Test different request types
@@ -0,0 +1,94 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.AsyncRequestExecutor;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.mock.MockServer;
+import com.hemanth.models.User;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Fan-out tests for the async RequestFactory API against an isolated mock server
+ */
+public class AsyncRequestTest extends BaseTest {
+
+    private static final int MAX_IN_FLIGHT = 32;
+    private static final int CALLS = 500;
+
+    private MockServer mockServer;
+    private AsyncRequestExecutor asyncExecutor;
+    private RequestFactory asyncFactory;
+
+    @BeforeClass
+    public void setup() {
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubGet("/api/users/1", 200, "{\"id\": 1, \"name\": \"Async User\", \"job\": \"Tester\"}");
+        mockServer.stubWithDelay("GET", "/api/users/slow", 200, "{\"id\": 2}", 20);
+        mockServer.stubPost("/api/users", 201, "{\"id\": 3, \"name\": \"Created\"}");
+
+        asyncExecutor = AsyncRequestExecutor.virtualThreads(MAX_IN_FLIGHT);
+        asyncFactory = new RequestFactory(mockServer.getBaseUrl(), asyncExecutor);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (asyncExecutor != null) {
+            asyncExecutor.close();
+        }
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
+    @Test
+    public void hundredsOfConcurrentGetsComplete() {
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(asyncFactory.getAsync("/api/users/1"));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (CompletableFuture<Response> future : futures) {
+            assertThat(future.join().getStatusCode(), equalTo(200));
+        }
+    }
+
+    @Test
+    public void inFlightCallsStayWithinLimit() {
+        // own executor: the shared one may still be busy with other methods of this class
+        try (AsyncRequestExecutor executor = AsyncRequestExecutor.virtualThreads(MAX_IN_FLIGHT)) {
+            RequestFactory factory = new RequestFactory(mockServer.getBaseUrl(), executor);
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLS; i++) {
+                futures.add(factory.getAsync("/api/users/slow"));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            assertThat(executor.getPeakInFlight(), allOf(greaterThan(1), lessThanOrEqualTo(MAX_IN_FLIGHT)));
+            assertThat(executor.getInFlight(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void typedResultsAreDeserialized() {
+        User user = asyncFactory.getAsync("/api/users/1", User.class).join();
+        assertThat(user.getName(), equalTo("Async User"));
+
+        User created = asyncFactory.postAsync("/api/users", Map.of("name", "Created"), User.class).join();
+        assertThat(created.getId(), equalTo(3));
+    }
+}
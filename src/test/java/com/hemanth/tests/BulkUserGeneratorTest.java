@@ -0,0 +1,96 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.mock.MockServer;
+import com.hemanth.models.User;
+import com.hemanth.services.UserService;
+import com.hemanth.util.BulkUserGenerator;
+import com.hemanth.util.BulkUserGenerator.Format;
+import com.hemanth.util.JsonUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the streaming, partitioned bulk user generator
+ */
+public class BulkUserGeneratorTest extends BaseTest {
+
+    private static final int USERS = 10_000;
+
+    private Path dir;
+    private MockServer mockServer;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("bulk-users");
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubPost("/api/users/bulk", 201, "{}");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() throws IOException {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    public void ndjsonHasOneUniqueUserPerLine() throws IOException {
+        Path file = dir.resolve("users.ndjson");
+        assertThat(new BulkUserGenerator(7, 4).generate(file, USERS, Format.NDJSON), equalTo((long) USERS));
+
+        List<User> users = Files.readAllLines(file).stream()
+                .map(line -> JsonUtils.fromJson(line, User.class))
+                .collect(Collectors.toList());
+        assertThat(users, hasSize(USERS));
+        Set<String> emails = users.stream().map(User::getEmail).collect(Collectors.toSet());
+        assertThat(emails, hasSize(USERS));
+        assertThat(users.get(USERS - 1).getId(), equalTo(USERS));
+        try (var files = Files.list(dir)) {
+            assertThat(files.anyMatch(path -> path.toString().contains(".part-")), is(false));
+        }
+    }
+
+    @Test
+    public void jsonArrayIsDeterministicForASeed() throws IOException {
+        Path first = dir.resolve("first.json");
+        Path second = dir.resolve("second.json");
+        new BulkUserGenerator(7, 3).generate(first, USERS, Format.JSON_ARRAY);
+        new BulkUserGenerator(7, 3).generate(second, USERS, Format.JSON_ARRAY);
+
+        assertThat(Files.mismatch(first, second), equalTo(-1L));
+        try (InputStream in = Files.newInputStream(first)) {
+            assertThat(JsonUtils.fromJsonInputStreamToList(in, User.class), hasSize(USERS));
+        }
+    }
+
+    @Test
+    public void generatedFileDrivesBulkCreateInBatches() {
+        Path file = dir.resolve("seed.ndjson");
+        new BulkUserGenerator(11).generate(file, 250, Format.NDJSON);
+
+        UserService userService = new UserService(new RequestFactory(mockServer.getBaseUrl()));
+        assertThat(userService.bulkCreateUsersFromFile(file, 100), equalTo(250L));
+        mockServer.verifyRequestCount("POST", "/api/users/bulk", 3);
+    }
+}
@@ -2,7 +2,9 @@ package com.hemanth.tests;
 
 import com.hemanth.base.BaseTest;
 import com.hemanth.core.Endpoints;
+import com.hemanth.core.RequestFactory;
 import com.hemanth.core.Specs;
+import com.hemanth.mock.MockServer;
 import com.hemanth.models.ApiResponse;
 import com.hemanth.models.User;
 import com.hemanth.util.DataProviderUtils;
@@ -11,13 +13,18 @@ import com.hemanth.util.TestDataBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -30,6 +37,28 @@ import static org.hamcrest.Matchers.sameInstance;
 
 public class CreateUserFromDataProviders extends BaseTest {
 
+    private MockServer mockServer;
+    private RequestFactory mockFactory;
+
+    @BeforeClass
+    public void setup() {
+        // echoes the posted name and job back, like the real create endpoint
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubWithResponseTransformation("POST", "/api/users", 201,
+                "{\"id\": 1, \"name\": \"{{jsonPath request.body '$.name'}}\", "
+                        + "\"job\": \"{{jsonPath request.body '$.job'}}\", \"createdAt\": \"{{now}}\"}",
+                "response-template");
+        mockFactory = new RequestFactory(mockServer.getBaseUrl() + "/api");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
     @Test(dataProvider = "csvData", dataProviderClass = DataProviderUtils.class)
     public void createUserFromCSV(String name, String job){
         // Build User object using TestDataBuilder
@@ -58,6 +87,30 @@ public class CreateUserFromDataProviders extends BaseTest {
         assertThat(apiResponse.getCreatedAt(), is(not(emptyString())));
     }
 
+    @Test
+    public void lazyCsvProviderMatchesCachedProvider() {
+        List<List<Object>> lazyRows = collect(DataProviderUtils.csvDataLazyProvider());
+        assertThat(lazyRows.isEmpty(), is(false));
+        assertThat(lazyRows, equalTo(collect(DataProviderUtils.csvDataprovider())));
+    }
+
+    private static List<List<Object>> collect(Iterator<Object[]> rows) {
+        List<List<Object>> collected = new ArrayList<>();
+        rows.forEachRemaining(row -> collected.add(Arrays.asList(row)));
+        return collected;
+    }
+
+    @Test(dataProvider = "jsonDataParallel", dataProviderClass = DataProviderUtils.class)
+    public void createUserFromJsonInParallel(String name, String job) {
+        Response res = mockFactory.post(Endpoints.users(), JsonUtils.toJson(TestDataBuilder.buildUser(name, job)));
+
+        res.then().spec(Specs.created());
+        ApiResponse<User> apiResponse = JsonUtils.fromJson(res.getBody().asString(),
+            new com.fasterxml.jackson.core.type.TypeReference<ApiResponse<User>>() {});
+        assertThat(apiResponse.getName(), equalTo(name));
+        assertThat(apiResponse.getJob(), equalTo(job));
+    }
+
     @Test
     public void createUserUsingPOJO() {
         // Create User object using TestDataBuilder
@@ -0,0 +1,183 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.util.StreamingExcelReader;
+import com.hemanth.util.TestDataManager;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Tests for the streaming (XSSF event API) Excel reader
+ */
+public class ExcelStreamingTest extends BaseTest {
+
+    private static final int ROWS = 2_000;
+    private static final String SHEET = "Users";
+
+    private TestDataManager testDataManager;
+    private File workbook;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        testDataManager = TestDataManager.getInstance();
+        workbook = Files.createTempFile("streaming-users", ".xlsx").toFile();
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", "User " + i);
+            row.put("job", i % 2 == 0 ? "QA" : "Dev");
+            row.put("age", 20L + i % 40);
+            row.put("score", i + 0.5);
+            row.put("active", i % 3 == 0);
+            rows.add(row);
+        }
+        testDataManager.writeTestDataToExcel(workbook.getPath(), SHEET, rows);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (workbook != null) {
+            workbook.delete();
+        }
+    }
+
+    @Test
+    public void streamedRowsMatchWorkbookReader() {
+        List<Map<String, Object>> loaded = testDataManager.readExcelFile(workbook.getPath(), SHEET);
+        List<Map<String, Object>> streamed;
+        try (Stream<Map<String, Object>> rows = testDataManager.streamExcelFile(workbook.getPath(), SHEET)) {
+            streamed = rows.collect(Collectors.toList());
+        }
+
+        assertThat(streamed, hasSize(ROWS));
+        assertThat(streamed, equalTo(loaded));
+        assertThat(streamed.get(7).get("age"), equalTo(27L));
+        assertThat(streamed.get(7).get("score"), equalTo(7.5));
+    }
+
+    @Test
+    public void readerCanBeAbandonedEarly() {
+        try (StreamingExcelReader reader = testDataManager.iterateExcelFile(workbook.getPath(), SHEET)) {
+            assertThat(reader.next().get("name"), equalTo("User 0"));
+        }
+        // the file is released once the reader is closed
+        assertThat(testDataManager.streamExcelFile(workbook.getPath(), SHEET).count(), equalTo((long) ROWS));
+    }
+
+    @Test
+    public void dataProviderReadsOnlyRequestedColumns() {
+        Object[][] data = testDataManager.getTestDataForDataProvider(workbook.getPath(), SHEET, "name", "job");
+        assertThat(data.length, equalTo(ROWS));
+        assertThat(data[1], arrayContaining("User 1", "Dev"));
+
+        Iterator<Object[]> lazy = testDataManager.iterateTestDataForDataProvider(workbook.getPath(), SHEET, "job");
+        int count = 0;
+        while (lazy.hasNext()) {
+            assertThat(lazy.next()[0], oneOf("QA", "Dev"));
+            count++;
+        }
+        assertThat(count, equalTo(ROWS));
+    }
+
+    @Test
+    public void cachedSheetIsSharedReadOnlyAndIndexed() {
+        List<Map<String, Object>> first = testDataManager.getTestDataFromExcel(workbook.getPath(), SHEET);
+        long hits = testDataManager.getCacheStats().hitCount();
+        assertThat(testDataManager.getTestDataFromExcel(workbook.getPath(), SHEET), sameInstance(first));
+        assertThat(testDataManager.getCacheStats().hitCount(), greaterThan(hits));
+        assertThrows(UnsupportedOperationException.class, () -> first.add(Map.of()));
+        assertThrows(UnsupportedOperationException.class, () -> first.get(0).put("name", "changed"));
+
+        List<Map<String, Object>> qa = testDataManager.getTestDataByCondition(workbook.getPath(), SHEET, "job", "QA");
+        assertThat(qa, hasSize(ROWS / 2));
+        assertThat(qa, everyItem(hasEntry("job", (Object) "QA")));
+        assertThat(testDataManager.getTestDataByCondition(workbook.getPath(), SHEET, "job", "PM"), is(empty()));
+        assertThat(testDataManager.getColumnIndex(workbook.getPath(), SHEET, "age").get(27L), hasSize(ROWS / 40));
+    }
+
+    @Test
+    public void streamingWriterRoundTrips() throws IOException {
+        File output = Files.createTempFile("sxssf-users", ".xlsx").toFile();
+        try {
+            Stream<Map<String, Object>> generated = IntStream.range(0, ROWS).mapToObj(i -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("name", "User " + i);
+                row.put("age", 20L + i % 40);
+                return row;
+            });
+            assertThat(testDataManager.writeTestDataToExcel(output.getPath(), SHEET, generated), equalTo((long) ROWS));
+
+            try (Stream<Map<String, Object>> rows = testDataManager.streamExcelFile(output.getPath(), SHEET)) {
+                List<Map<String, Object>> written = rows.collect(Collectors.toList());
+                assertThat(written, hasSize(ROWS));
+                assertThat(written.get(ROWS - 1), hasEntry("name", (Object) ("User " + (ROWS - 1))));
+                assertThat(written.get(7).get("age"), equalTo(27L));
+            }
+        } finally {
+            output.delete();
+        }
+    }
+
+    @Test
+    public void cellTypesAndBlanksMatchWorkbookReader() throws IOException {
+        File typed = Files.createTempFile("typed-cells", ".xlsx").toFile();
+        try (XSSFWorkbook book = new XSSFWorkbook(); OutputStream out = new FileOutputStream(typed)) {
+            Sheet sheet = book.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("flag");
+            header.createCell(1).setCellValue("text");
+            header.createCell(2).setCellValue("note");
+            header.createCell(3).setCellValue("missing");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(true);
+            row.createCell(1).setCellValue("TRUE");
+            CellStyle bold = book.createCellStyle();
+            row.createCell(2).setCellStyle(bold);
+            book.write(out);
+        }
+        try {
+            List<Map<String, Object>> loaded = testDataManager.readExcelFile(typed.getPath(), SHEET);
+            List<Map<String, Object>> streamed;
+            try (Stream<Map<String, Object>> rows = testDataManager.streamExcelFile(typed.getPath(), SHEET)) {
+                streamed = rows.collect(Collectors.toList());
+            }
+
+            assertThat(streamed, equalTo(loaded));
+            assertThat(streamed.get(0).get("flag"), equalTo(Boolean.TRUE));
+            assertThat(streamed.get(0).get("text"), equalTo("TRUE"));
+            assertThat(streamed.get(0).get("note"), equalTo(""));
+            assertThat(streamed.get(0).get("missing"), is(nullValue()));
+        } finally {
+            typed.delete();
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = ".*Sheet 'Missing' not found.*")
+    public void missingSheetFailsFast() {
+        testDataManager.streamExcelFile(workbook.getPath(), "Missing");
+    }
+}
@@ -0,0 +1,113 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.load.LoadGenerator;
+import com.hemanth.load.LoadProfile;
+import com.hemanth.load.LoadReport;
+import com.hemanth.load.LoadReport.Phase;
+import com.hemanth.load.Scenario;
+import com.hemanth.load.ScenarioMix;
+import com.hemanth.mock.MockServer;
+import com.hemanth.services.UserService;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Short load runs of UserService scenarios against an isolated mock server
+ */
+public class LoadGeneratorTest extends BaseTest {
+
+    private MockServer mockServer;
+    private UserService userService;
+    private ScenarioMix mix;
+
+    @BeforeClass
+    public void setup() {
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubPost("/api/users", 201, "{\"id\": 1, \"name\": \"Load User\"}");
+        mockServer.stubWithQueryParams("GET", "/api/users", Map.of("page", "1", "per_page", "6"), 200,
+                "{\"page\": 1, \"per_page\": 6, \"total\": 12, \"total_pages\": 2, \"data\": []}");
+        mockServer.stubPut("/api/users/2", 200, "{\"name\": \"Updated\"}");
+        mockServer.stubDelete("/api/users/2", 200, "{}");
+
+        userService = new UserService(new RequestFactory(mockServer.getBaseUrl()));
+        mix = ScenarioMix.builder()
+                .add(Scenario.getAllUsers(6, 1, 6))
+                .add(Scenario.createUser(2))
+                .add(Scenario.updateUser(1, 2))
+                .add(Scenario.deleteUser(1, 2))
+                .build();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
+    @Test
+    public void openModelHoldsTargetRate() {
+        LoadProfile profile = LoadProfile.openModel(100)
+                .rampUp(Duration.ofSeconds(1))
+                .steadyState(Duration.ofSeconds(2))
+                .build();
+
+        LoadReport report = new LoadGenerator(userService, mix, profile).run();
+
+        assertThat(report.getTotalCount(Phase.RAMP_UP), greaterThan(0L));
+        // arrivals follow the schedule (~200 in 2 s at 100 rps), late ones are recorded as latency, not dropped
+        assertThat(report.getTotalCount(Phase.STEADY_STATE), allOf(greaterThanOrEqualTo(180L), lessThanOrEqualTo(220L)));
+        assertThat(report.getErrorCount(Phase.STEADY_STATE, "GET /api/users"), equalTo(0L));
+        assertThat(report.getLatency(Phase.STEADY_STATE, "GET /api/users").getTotalCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void closedModelRunsEveryScenario() {
+        LoadProfile profile = LoadProfile.closedModel(4)
+                .pacing(Duration.ofMillis(20))
+                .steadyState(Duration.ofSeconds(1))
+                .build();
+
+        LoadReport report = new LoadGenerator(userService, mix, profile).run();
+
+        for (Scenario scenario : mix.getScenarios()) {
+            assertThat(report.getSuccessCount(Phase.STEADY_STATE, scenario.getEndpoint()), greaterThan(0L));
+            assertThat(report.getErrorCount(Phase.STEADY_STATE, scenario.getEndpoint()), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void checkedExceptionsAreCountedAsErrors() {
+        // RestAssured rethrows checked IOExceptions (e.g. pool timeouts) without wrapping them
+        ScenarioMix failing = ScenarioMix.builder()
+                .add(new Scenario("GET /api/unreachable", 1,
+                        service -> sneakyThrow(new IOException("Timeout waiting for connection from pool"))))
+                .build();
+        LoadProfile profile = LoadProfile.closedModel(2)
+                .pacing(Duration.ofMillis(50))
+                .steadyState(Duration.ofMillis(500))
+                .build();
+
+        LoadReport report = new LoadGenerator(userService, failing, profile).run();
+
+        // the virtual users survive their first failure and keep iterating
+        assertThat(report.getErrorCount(Phase.STEADY_STATE, "GET /api/unreachable"), greaterThan(2L));
+        assertThat(report.getSuccessCount(Phase.STEADY_STATE, "GET /api/unreachable"), equalTo(0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+}
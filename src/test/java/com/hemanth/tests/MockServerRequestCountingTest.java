@@ -0,0 +1,97 @@
+package com.hemanth.tests;
+
+import com.github.tomakehurst.wiremock.client.VerificationException;
+import com.hemanth.base.BaseTest;
+import com.hemanth.mock.MockServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the per-stub request counters of a performance-profile mock server.
+ * Runs single-threaded because every method resets the counters.
+ */
+@Test(singleThreaded = true)
+public class MockServerRequestCountingTest extends BaseTest {
+
+    private MockServer mockServer;
+
+    @BeforeClass
+    public void setup() {
+        mockServer = MockServer.newPerformanceInstance(0);
+        mockServer.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void resetStubs() {
+        mockServer.reset();
+        mockServer.stubGet("/api/ping", 200, "{\"status\": \"ok\"}");
+        mockServer.stubPost("/api/users", 201, "{}");
+    }
+
+    @Test
+    public void concurrentRequestsAreCountedPerStub() {
+        CompletableFuture<?>[] requests = IntStream.range(0, 200)
+                .mapToObj(i -> CompletableFuture.runAsync(() ->
+                        RestAssured.given().baseUri(mockServer.getBaseUrl()).get("/api/ping")))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(requests).join();
+        RestAssured.given().baseUri(mockServer.getBaseUrl()).body("{}").post("/api/users");
+
+        assertThat(mockServer.isRequestCounting(), is(true));
+        mockServer.verifyRequestCount("GET", "/api/ping", 200);
+        mockServer.verifyRequest("POST", "/api/users");
+        assertThat(mockServer.getRequestCount("PUT", "/api/users"), equalTo(0L));
+    }
+
+    @Test
+    public void resetClearsCounters() {
+        RestAssured.given().baseUri(mockServer.getBaseUrl()).get("/api/ping");
+        mockServer.verifyRequestCount("GET", "/api/ping", 1);
+
+        mockServer.reset();
+        assertThat(mockServer.getRequestCount("GET", "/api/ping"), equalTo(0L));
+    }
+
+    @Test
+    public void unmatchedRequestsAreCountedPerUrl() {
+        for (int id = 0; id < 50; id++) {
+            RestAssured.given().baseUri(mockServer.getBaseUrl()).get("/api/unknown/" + id);
+        }
+
+        assertThat(mockServer.getUnmatchedRequestCount(), equalTo(50L));
+        mockServer.verifyRequestCount("GET", "/api/unknown/7", 1);
+    }
+
+    @Test
+    public void queryParamStubsAreCountedPerUrl() {
+        mockServer.stubWithQueryParams("GET", "/api/users", Map.of("page", "2"), 200, "{}");
+        RestAssured.given().baseUri(mockServer.getBaseUrl()).queryParam("page", "2").get("/api/users");
+        RestAssured.given().baseUri(mockServer.getBaseUrl()).queryParam("page", "2").get("/api/users");
+
+        mockServer.verifyRequestCount("GET", "/api/users?page=2", 2);
+        assertThat(mockServer.getRequestCount("GET", "/api/users?page=3"), equalTo(0L));
+        assertThat(mockServer.getUnmatchedRequestCount(), equalTo(0L));
+    }
+
+    @Test(expectedExceptions = VerificationException.class)
+    public void missingRequestFailsVerification() {
+        mockServer.verifyRequest("DELETE", "/api/users/1");
+    }
+}
@@ -0,0 +1,89 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.mock.MockServer;
+import com.hemanth.models.User;
+import com.hemanth.services.UserPageIterator;
+import com.hemanth.services.UserService;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for lazy auto-pagination over GET /api/users
+ */
+public class PaginationTest extends BaseTest {
+
+    private static final int PER_PAGE = 2;
+    private static final int TOTAL_USERS = 5;
+
+    private MockServer mockServer;
+    private UserService mockUserService;
+
+    @BeforeClass
+    public void setup() {
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        int totalPages = (TOTAL_USERS + PER_PAGE - 1) / PER_PAGE;
+        for (int page = 1; page <= totalPages; page++) {
+            mockServer.stubWithQueryParams("GET", "/api/users",
+                    Map.of("page", String.valueOf(page), "per_page", String.valueOf(PER_PAGE)),
+                    200, pageBody(page, totalPages));
+        }
+        mockUserService = new UserService(new RequestFactory(mockServer.getBaseUrl()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
+    @DataProvider
+    public Object[][] prefetchSizes() {
+        return new Object[][]{{0}, {1}, {4}};
+    }
+
+    @Test(dataProvider = "prefetchSizes")
+    public void streamWalksAllPagesInOrder(int prefetch) {
+        try (Stream<User> users = mockUserService.streamAllUsers(PER_PAGE, prefetch)) {
+            assertThat(users.map(User::getId).collect(Collectors.toList()), contains(1, 2, 3, 4, 5));
+        }
+    }
+
+    @Test
+    public void iteratorIsLazyAndReportsTotalPages() {
+        try (UserPageIterator iterator = mockUserService.iterateAllUsers(PER_PAGE, 1)) {
+            assertThat(iterator.getTotalPages(), is(nullValue()));
+            assertThat(iterator.next().getId(), equalTo(1));
+            assertThat(iterator.getTotalPages(), equalTo(3));
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        for (User user : mockUserService.allUsers(PER_PAGE, 0)) {
+            ids.add(user.getId());
+        }
+        assertThat(ids, hasSize(TOTAL_USERS));
+    }
+
+    private static String pageBody(int page, int totalPages) {
+        List<String> users = new ArrayList<>();
+        for (int id = (page - 1) * PER_PAGE + 1; id <= Math.min(page * PER_PAGE, TOTAL_USERS); id++) {
+            users.add("{\"id\": " + id + ", \"first_name\": \"User" + id + "\"}");
+        }
+        return "{\"page\": " + page + ", \"per_page\": " + PER_PAGE + ", \"total\": " + TOTAL_USERS
+                + ", \"total_pages\": " + totalPages + ", \"data\": [" + String.join(", ", users) + "]}";
+    }
+}
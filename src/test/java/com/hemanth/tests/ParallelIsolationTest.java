@@ -0,0 +1,104 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.Specs;
+import com.hemanth.core.TokenManager;
+import com.hemanth.util.TestDataManager;
+import io.restassured.http.ContentType;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Stress test hammering the shared framework components from many threads at once.
+ * Each invocation only asserts on values it created itself, so any cross-test contamination fails it.
+ */
+public class ParallelIsolationTest extends BaseTest {
+
+    private static final int ROW_COUNT = 100;
+
+    private TokenManager tokenManager;
+    private TestDataManager testDataManager;
+    private File excelFile;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tokenManager = TokenManager.getInstance();
+        testDataManager = TestDataManager.getInstance();
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("scenario", "scenario-" + i);
+            row.put("name", "User " + i);
+            rows.add(row);
+        }
+        excelFile = File.createTempFile("parallel-isolation", ".xlsx");
+        testDataManager.writeTestDataToExcel(excelFile.getPath(), "Users", rows);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (excelFile != null) {
+            excelFile.delete();
+        }
+    }
+
+    @Test(invocationCount = 500, threadPoolSize = 32)
+    public void tokenContextIsIsolatedPerThread() {
+        String username = "user-" + UUID.randomUUID();
+        String token = tokenManager.generateToken(username, "tester");
+
+        Thread.yield();
+
+        assertThat(tokenManager.getCurrentToken(), equalTo(token));
+        assertThat(tokenManager.extractUsername(tokenManager.getCurrentToken()), equalTo(username));
+        assertThat(tokenManager.getAuthorizationHeader(), equalTo("Bearer " + token));
+
+        tokenManager.clearToken();
+        assertThat(tokenManager.getCurrentToken(), is(nullValue()));
+    }
+
+    @Test(invocationCount = 200, threadPoolSize = 32)
+    public void dataCacheIsSharedSafely() {
+        List<Map<String, Object>> data = testDataManager.getTestDataFromExcel(excelFile.getPath(), "Users");
+        assertThat(data, hasSize(ROW_COUNT));
+
+        Map<String, Object> scenario = testDataManager.getTestDataForScenario(excelFile.getPath(), "Users", "scenario-42");
+        assertThat(scenario.get("name"), equalTo("User 42"));
+    }
+
+    @Test(invocationCount = 500, threadPoolSize = 32)
+    public void requestSpecsAreThreadConfined() {
+        String testId = UUID.randomUUID().toString();
+        RequestSpecification request = requestFactory.createBasicRequest().header("X-Test-Id", testId);
+
+        Thread.yield();
+
+        QueryableRequestSpecification queryable = SpecificationQuerier.query(request);
+        assertThat(queryable.getHeaders().getValues("X-Test-Id"), contains(testId));
+    }
+
+    @Test(invocationCount = 200, threadPoolSize = 32)
+    public void specRegistryHandsOutOneInstancePerKey() {
+        ResponseSpecification accepted = Specs.registerResponse("accepted", ContentType.JSON, 202);
+
+        assertThat(Specs.response("accepted"), sameInstance(accepted));
+        assertThat(Specs.success(), sameInstance(Specs.success()));
+    }
+}
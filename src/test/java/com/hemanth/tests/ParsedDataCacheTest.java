@@ -0,0 +1,104 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.util.ParsedDataCache;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the on-disk parsed test data cache.
+ * Runs single-threaded because one method rewrites the shared source file.
+ */
+@Test(singleThreaded = true)
+public class ParsedDataCacheTest extends BaseTest {
+
+    private Path cacheDir;
+    private Path source;
+    private ParsedDataCache cache;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        cacheDir = Files.createTempDirectory("parsed-data-cache");
+        source = Files.createTempFile("users", ".csv");
+        Files.writeString(source, "name,job\nAlice,QA\n");
+        cache = new ParsedDataCache(cacheDir, true);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() throws IOException {
+        cache.clear();
+        Files.deleteIfExists(cacheDir);
+        Files.deleteIfExists(source);
+    }
+
+    @Test
+    public void warmLoadSkipsParserAndKeepsTypes() {
+        AtomicInteger parses = new AtomicInteger();
+        List<Map<String, Object>> cold = cache.getOrLoad(source, "types", () -> {
+            parses.incrementAndGet();
+            return typedRows();
+        });
+        List<Map<String, Object>> warm = cache.getOrLoad(source, "types", () -> {
+            parses.incrementAndGet();
+            return typedRows();
+        });
+
+        assertThat(parses.get(), equalTo(1));
+        assertThat(warm, equalTo(cold));
+        assertThat(warm.get(0).get("age"), equalTo(42L));
+        assertThat(warm.get(0).get("joined"), instanceOf(Date.class));
+        assertThat(warm.get(0), hasEntry("manager", null));
+        assertThat(cache.getHits(), greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    public void changedSourceInvalidatesEntry() throws IOException {
+        AtomicInteger parses = new AtomicInteger();
+        cache.getOrLoad(source, "invalidation", () -> List.of(row("v", parses.incrementAndGet())));
+
+        // same size and mtime, different content: only the content hash tells them apart
+        FileTime mtime = Files.getLastModifiedTime(source);
+        Files.writeString(source, "name,job\nAlice,QB\n");
+        Files.setLastModifiedTime(source, mtime);
+
+        List<Map<String, Object>> reloaded = cache.getOrLoad(source, "invalidation",
+                () -> List.of(row("v", parses.incrementAndGet())));
+        assertThat(parses.get(), equalTo(2));
+        assertThat(reloaded.get(0).get("v"), equalTo(2));
+    }
+
+    private static List<Map<String, Object>> typedRows() {
+        Map<String, Object> first = row("name", "Alice");
+        first.put("age", 42L);
+        first.put("score", 9.5);
+        first.put("active", true);
+        first.put("joined", new Date(1_700_000_000_000L));
+        first.put("manager", null);
+        first.put("tags", List.of("qa", 1));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(first);
+        rows.add(row("name", "Bob"));
+        return rows;
+    }
+
+    private static Map<String, Object> row(String key, Object value) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put(key, value);
+        return row;
+    }
+}
@@ -8,8 +8,13 @@ import com.hemanth.util.JsonUtils;
 import com.hemanth.util.TestDataBuilder;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -218,4 +223,36 @@ public class PojoSerializationTest extends BaseTest {
         assertThat(merged, containsString("New York"));
         assertThat(merged, containsString("Engineer"));
     }
+
+    @Test
+    public void testStreamingJsonArray() {
+        String paginated = """
+                {
+                    "page": 1,
+                    "support": {"url": "https://example.com", "text": "help"},
+                    "data": [
+                        {"id": 1, "first_name": "George"},
+                        {"id": 2, "first_name": "Janet"},
+                        {"id": 3, "first_name": "Emma"}
+                    ],
+                    "total": 3
+                }
+                """;
+        try (Stream<User> users = JsonUtils.streamJsonArray(asStream(paginated), User.class)) {
+            assertThat(users.map(User::getFirstName).collect(Collectors.toList()),
+                    contains("George", "Janet", "Emma"));
+        }
+
+        JsonUtils.JsonArrayIterator<User> iterator =
+                JsonUtils.iterateJsonArray(asStream("[{\"id\": 7}, {\"id\": 8}]"), User.class);
+        assertThat(iterator.next().getId(), equalTo(7));
+        assertThat(iterator.next().getId(), equalTo(8));
+        assertThat(iterator.hasNext(), is(false));
+
+        assertThat(JsonUtils.iterateJsonArray(asStream("{\"data\": []}"), User.class).hasNext(), is(false));
+    }
+
+    private static InputStream asStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,78 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.metrics.EndpointTemplates;
+import com.hemanth.metrics.RequestMetrics;
+import com.hemanth.metrics.RequestMetrics.EndpointMetrics;
+import com.hemanth.mock.MockServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for per-endpoint request instrumentation
+ */
+public class RequestMetricsTest extends BaseTest {
+
+    private MockServer mockServer;
+    private RequestFactory mockFactory;
+
+    @BeforeClass
+    public void setup() {
+        mockServer = MockServer.newInstance(0);
+        mockServer.start();
+        mockServer.stubGet("/api/metrics/7", 200, "{\"id\": 7}");
+        mockServer.stubGet("/api/metrics/8", 200, "{\"id\": 8}");
+        mockFactory = new RequestFactory(mockServer.getBaseUrl());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+    }
+
+    @Test
+    public void endpointTemplatesCollapseIds() {
+        assertThat(EndpointTemplates.normalize("/api/users/42"), equalTo("/api/users/{id}"));
+        assertThat(EndpointTemplates.normalize("/api/users/42/profile?x=1"), equalTo("/api/users/{id}/profile"));
+        assertThat(EndpointTemplates.normalize("http://localhost:8080/api/users"), equalTo("/api/users"));
+        assertThat(EndpointTemplates.normalize("/api/orders/3f2504e0-4f89-11d3-9a0c-0305e82c3301"),
+                equalTo("/api/orders/{id}"));
+        assertThat(EndpointTemplates.normalize("/api/users/search"), equalTo("/api/users/search"));
+    }
+
+    @Test
+    public void callsAreRecordedPerTemplate() {
+        mockFactory.get("/api/metrics/7");
+        mockFactory.get("/api/metrics/8");
+
+        EndpointMetrics metrics = RequestMetrics.getInstance().getEndpoint("GET", "/api/metrics/{id}");
+        assertThat(metrics, is(notNullValue()));
+        assertThat(metrics.getCount(), greaterThanOrEqualTo(2L));
+        assertThat(metrics.getStatusCodes(), hasKey(200));
+        assertThat(metrics.getResponseBytes(), greaterThan(0L));
+        assertThat(metrics.getLatency().getTotalCount(), greaterThanOrEqualTo(2L));
+        assertThat(RequestMetrics.getInstance().getLastCall().getPath(), equalTo("/api/metrics/8"));
+    }
+
+    @Test
+    public void connectionFailuresAreRecordedWithoutStatus() {
+        // nothing listens on port 1, so the call fails with a checked ConnectException
+        RequestFactory unreachable = new RequestFactory("http://localhost:1");
+        try {
+            unreachable.get("/api/metrics/9");
+        } catch (Exception expected) {
+            // recorded before it propagates
+        }
+
+        EndpointMetrics metrics = RequestMetrics.getInstance().getEndpoint("GET", "/api/metrics/{id}");
+        assertThat(metrics.getStatusCodes(), hasKey(-1));
+        assertThat(RequestMetrics.getInstance().getLastCall().getStatusCode(), equalTo(-1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.util.DataProviderUtils;
+import com.hemanth.util.ShardedFileReader;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the memory-mapped, sharded reader of large CSV/NDJSON files
+ */
+public class ShardedFileReaderTest extends BaseTest {
+
+    private static final int ROWS = 10_000;
+
+    private Path csv;
+    private Path ndjson;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        StringBuilder csvLines = new StringBuilder("name,job\r\n");
+        StringBuilder jsonLines = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            csvLines.append("\"User ").append(i).append("\",QA\r\n");
+            jsonLines.append("{\"id\":").append(i).append("}\n");
+            if (i % 1000 == 0) {
+                // whitespace-only lines are skipped like empty ones
+                csvLines.append(" \t\r\n");
+                jsonLines.append("  \n");
+            }
+        }
+        csv = Files.createTempFile("sharded", ".csv");
+        ndjson = Files.createTempFile("sharded", ".ndjson");
+        Files.writeString(csv, csvLines);
+        Files.writeString(ndjson, jsonLines);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() throws IOException {
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(ndjson);
+    }
+
+    @Test
+    public void shardsAreLineAlignedAndCoverEveryRowOnce() {
+        ShardedFileReader reader = ShardedFileReader.open(csv, 7, true);
+        assertThat(reader.getHeader(), equalTo("name,job"));
+        assertThat(reader.getShards(), hasSize(7));
+
+        List<String> names = reader.getShards().stream()
+                .flatMap(ShardedFileReader.Shard::csvRows)
+                .map(row -> row[0])
+                .collect(Collectors.toList());
+        assertThat(names, hasSize(ROWS));
+        assertThat(names.get(0), equalTo("User 0"));
+        assertThat(names.get(ROWS - 1), equalTo("User " + (ROWS - 1)));
+    }
+
+    @Test
+    public void ndjsonShardsParseInParallel() {
+        @SuppressWarnings("rawtypes")
+        long sum = ShardedFileReader.open(ndjson, 4)
+                .parallelStream(shard -> shard.jsonRows(Map.class))
+                .mapToLong(row -> ((Number) row.get("id")).longValue())
+                .sum();
+        assertThat(sum, equalTo((long) ROWS * (ROWS - 1) / 2));
+    }
+
+    @Test(dataProvider = "csvShards", dataProviderClass = DataProviderUtils.class)
+    public void eachShardIsAnIndependentPartition(ShardedFileReader.Shard shard) {
+        assertThat(shard.csvRows().allMatch(row -> row.length == 2), is(true));
+    }
+}
@@ -0,0 +1,141 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.base.SeededDataListener;
+import com.hemanth.util.TestDataBuilder;
+import com.hemanth.util.TestDataContext;
+import org.testng.Reporter;
+import org.testng.TestNG;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for seeded, per-key test data streams
+ */
+public class TestDataContextTest extends BaseTest {
+
+    @Test
+    public void sameKeyReplaysSameValues() {
+        assertThat(draw(TestDataContext.forKey("vuser-1")), equalTo(draw(TestDataContext.forKey("vuser-1"))));
+        assertThat(draw(TestDataContext.forKey("vuser-1")), not(equalTo(draw(TestDataContext.forKey("vuser-2")))));
+    }
+
+    @Test
+    public void boundKeyDrivesDataBuilders() {
+        String previousKey = TestDataContext.currentKey();
+        try {
+            TestDataContext.bind("replay-me");
+            List<String> first = IntStream.range(0, 20).mapToObj(i -> TestDataBuilder.getRandomName())
+                    .collect(Collectors.toList());
+            TestDataContext.bind("replay-me");
+            List<String> second = IntStream.range(0, 20).mapToObj(i -> TestDataBuilder.getRandomName())
+                    .collect(Collectors.toList());
+            assertThat(second, equalTo(first));
+        } finally {
+            if (previousKey != null) {
+                TestDataContext.bind(previousKey);
+            } else {
+                TestDataContext.unbind();
+            }
+        }
+    }
+
+    @Test
+    public void unboundVirtualThreadsGetDistinctStreams() throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<String>> first = executor.submit(TestDataContextTest::buildEmails);
+            Future<List<String>> second = executor.submit(TestDataContextTest::buildEmails);
+            assertThat(first.get(), not(equalTo(second.get())));
+        }
+    }
+
+    @Test
+    public void invocationKeysAreStableUnderThreadPool() {
+        Map<String, List<String>> first = runSeededFixture("first");
+        Map<String, List<String>> second = runSeededFixture("second");
+
+        assertThat(SeededFixture.INVOCATIONS.get("first").get(), equalTo(first.size()));
+        assertThat(first.size(), equalTo(SeededFixture.POOLED_INVOCATIONS + 3));
+        assertThat(second, equalTo(first));
+    }
+
+    private static Map<String, List<String>> runSeededFixture(String run) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("seeded-" + run);
+        XmlTest test = new XmlTest(suite);
+        test.setName("seeded-" + run);
+        test.setParameters(Map.of(SeededFixture.RUN_PARAMETER, run));
+        test.setXmlClasses(List.of(new XmlClass(SeededFixture.class)));
+
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(new SeededDataListener());
+        testng.setVerbose(0);
+        testng.run();
+        assertThat(testng.getStatus(), equalTo(0));
+        return SeededFixture.DATA.get(run);
+    }
+
+    /**
+     * Records the data each invocation draws, keyed by its data key; only runs from the test above
+     */
+    public static class SeededFixture {
+        static final String RUN_PARAMETER = "seeded.fixture.run";
+        static final int POOLED_INVOCATIONS = 40;
+        static final Map<String, Map<String, List<String>>> DATA = new ConcurrentHashMap<>();
+        static final Map<String, AtomicInteger> INVOCATIONS = new ConcurrentHashMap<>();
+
+        @DataProvider(parallel = true)
+        public Object[][] duplicateRows() {
+            return new Object[][]{{"a"}, {"a"}, {"b"}};
+        }
+
+        @Test(invocationCount = POOLED_INVOCATIONS, threadPoolSize = 8)
+        public void pooled() {
+            record();
+        }
+
+        @Test(dataProvider = "duplicateRows")
+        public void rows(String row) {
+            record();
+        }
+
+        private static void record() {
+            String run = Reporter.getCurrentTestResult().getTestContext()
+                    .getCurrentXmlTest().getParameter(RUN_PARAMETER);
+            if (run == null) {
+                return;
+            }
+            INVOCATIONS.computeIfAbsent(run, key -> new AtomicInteger()).incrementAndGet();
+            DATA.computeIfAbsent(run, key -> new ConcurrentHashMap<>())
+                    .put(TestDataContext.currentKey(), buildEmails());
+        }
+    }
+
+    private static List<String> buildEmails() {
+        return IntStream.range(0, 10).mapToObj(i -> TestDataBuilder.buildRandomUser().getEmail())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> draw(SplittableRandom random) {
+        return IntStream.range(0, 10).mapToObj(i -> random.nextInt()).collect(Collectors.toList());
+    }
+}
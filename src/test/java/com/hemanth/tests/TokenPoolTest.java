@@ -0,0 +1,58 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.TokenContext;
+import com.hemanth.core.TokenManager;
+import com.hemanth.core.TokenPool;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the multi-identity token pool
+ */
+public class TokenPoolTest extends BaseTest {
+
+    private static final List<String> ROLES = List.of("admin", "user", "viewer");
+
+    @Test
+    public void warmUpSignsDistinctTokensPerIdentity() {
+        try (TokenPool pool = new TokenPool(300, ROLES).warmUp()) {
+            TokenManager tokenManager = TokenManager.getInstance();
+            Set<String> tokens = new HashSet<>();
+            for (int user = 0; user < pool.size(); user++) {
+                tokens.add(pool.get(user).getToken());
+            }
+            assertThat(tokens, hasSize(300));
+
+            assertThat(tokenManager.extractUsername(pool.get(4).getToken()), equalTo("vuser-4"));
+            assertThat(tokenManager.extractRole(pool.get(4).getToken()), equalTo(pool.getRole(4)));
+            assertThat(pool.get(304).getToken(), equalTo(pool.get(4).getToken()));
+
+            assertThat(pool.getWarmUpMillis(), greaterThan(0.0));
+            assertThat(pool.getSigningRatePerSecond(), greaterThan(0.0));
+            assertThat(pool.forCurrentThread().getToken(), equalTo(pool.forCurrentThread().getToken()));
+        }
+    }
+
+    @Test
+    public void expiringTokensAreResignedInBackground() throws InterruptedException {
+        TokenPool pool = new TokenPool(50, ROLES, 200,
+                (username, role) -> new TokenContext(username + "-" + System.nanoTime(),
+                        System.currentTimeMillis() + 400));
+        try (pool) {
+            pool.warmUp();
+            TokenContext first = pool.get(0);
+            Thread.sleep(400);
+
+            assertThat(pool.getResignedCount(), greaterThanOrEqualTo(50L));
+            assertThat(pool.get(0).getToken(), not(equalTo(first.getToken())));
+            assertThat(pool.get(0).isExpired(), is(false));
+        }
+    }
+}
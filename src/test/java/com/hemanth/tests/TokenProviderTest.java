@@ -0,0 +1,123 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.TokenContext;
+import com.hemanth.core.TokenManager;
+import com.hemanth.core.TokenProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Tests for background token refresh with a single shared in-flight refresh.
+ * Runs single-threaded because one method swaps the process-wide TokenManager provider.
+ */
+@Test(singleThreaded = true)
+public class TokenProviderTest extends BaseTest {
+
+    private static final int CALLERS = 32;
+
+    @Test
+    public void concurrentCallersShareOneRefresh() throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        Supplier<TokenContext> slowSource = () -> {
+            sleep(100);
+            return new TokenContext("token-" + issued.incrementAndGet(), System.currentTimeMillis() + 60_000);
+        };
+
+        try (TokenProvider provider = new TokenProvider(slowSource, 10_000);
+             ExecutorService callers = Executors.newFixedThreadPool(CALLERS)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                tokens.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return provider.getToken();
+                }, callers));
+            }
+            start.countDown();
+
+            for (CompletableFuture<String> token : tokens) {
+                assertThat(token.get(5, TimeUnit.SECONDS), equalTo("token-1"));
+            }
+            assertThat(issued.get(), equalTo(1));
+        }
+    }
+
+    @Test
+    public void tokenIsRenewedInBackgroundBeforeExpiry() {
+        AtomicInteger issued = new AtomicInteger();
+        Supplier<TokenContext> shortLived = () ->
+                new TokenContext("token-" + issued.incrementAndGet(), System.currentTimeMillis() + 600);
+
+        try (TokenProvider provider = new TokenProvider(shortLived, 300).start()) {
+            String first = provider.getToken();
+            sleep(450);
+            // refreshed by the scheduler while the first token was still valid
+            assertThat(provider.getRefreshCount(), greaterThanOrEqualTo(2L));
+            assertThat(provider.getToken(), not(equalTo(first)));
+            assertThat(provider.getContext().isExpired(), is(false));
+        }
+    }
+
+    @Test
+    public void expiredTokensFromSourceFailWithoutSpinning() {
+        AtomicInteger issued = new AtomicInteger();
+        Supplier<TokenContext> expired = () ->
+                new TokenContext("token-" + issued.incrementAndGet(), System.currentTimeMillis() - 1);
+
+        try (TokenProvider provider = new TokenProvider(expired, 300)) {
+            assertThrows(IllegalStateException.class, provider::getToken);
+            sleep(300);
+            // the failed refresh is retried after a delay, not immediately
+            assertThat(issued.get(), equalTo(1));
+        }
+    }
+
+    @Test
+    public void threadWithoutTokenFallsBackToSharedProvider() {
+        TokenManager tokenManager = TokenManager.getInstance();
+        tokenManager.clearToken();
+        try (TokenProvider provider = TokenProvider.forUser("shared-user", "tester")) {
+            tokenManager.setTokenProvider(provider);
+            TokenContext context = tokenManager.getActiveContext();
+            assertThat(tokenManager.extractUsername(context.getToken()), equalTo("shared-user"));
+
+            tokenManager.generateToken("own-user", "admin");
+            assertThat(tokenManager.getActiveContext().getToken(), equalTo(tokenManager.getCurrentToken()));
+        } finally {
+            tokenManager.setTokenProvider(null);
+            tokenManager.clearToken();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
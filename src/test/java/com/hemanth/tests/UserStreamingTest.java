@@ -0,0 +1,125 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.core.RequestFactory;
+import com.hemanth.models.User;
+import com.hemanth.services.UserService;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Streams a large chunked users array from a local server that generates it on the fly,
+ * checking that users arrive before the body ends and that heap use does not grow with it
+ */
+@Test(singleThreaded = true)
+public class UserStreamingTest extends BaseTest {
+
+    private static final int USERS = 2_000_000;
+    private static final int FIRST_BATCH = 1_000;
+
+    private HttpServer server;
+    private UserService streamingService;
+    private volatile CountDownLatch firstUserRead;
+    private volatile long bodyBytes;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/users", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            // length 0 = chunked transfer encoding, no Content-Length
+            exchange.sendResponseHeaders(200, 0);
+            long written = 0;
+            try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), 64 * 1024)) {
+                written += write(out, "{\"page\": 1, \"data\": [");
+                for (int id = 1; id <= USERS; id++) {
+                    written += write(out, (id > 1 ? "," : "")
+                            + "{\"id\": " + id + ", \"name\": \"User " + id + "\", \"job\": \"Tester\"}");
+                    if (id == FIRST_BATCH) {
+                        out.flush();
+                        // a client that buffers the whole body never sees the first user
+                        if (!awaitFirstUser()) {
+                            return;
+                        }
+                    }
+                }
+                written += write(out, "]}");
+                bodyBytes = written;
+            }
+        });
+        server.start();
+        streamingService = new UserService(
+                new RequestFactory("http://localhost:" + server.getAddress().getPort()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void largeChunkedArrayIsStreamedWithBoundedHeap() {
+        firstUserRead = new CountDownLatch(1);
+        Runtime runtime = Runtime.getRuntime();
+        long baseline = 0;
+        long peakGrowth = 0;
+        int count = 0;
+
+        try (Stream<User> users = streamingService.streamUsersPage(1, USERS)) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                count++;
+                assertThat(user.getId(), equalTo(count));
+                if (count == 1) {
+                    baseline = usedHeapAfterGc(runtime);
+                    firstUserRead.countDown();
+                } else if (count % 400_000 == 0) {
+                    peakGrowth = Math.max(peakGrowth, usedHeapAfterGc(runtime) - baseline);
+                }
+            }
+        }
+
+        assertThat(count, equalTo(USERS));
+        assertThat(bodyBytes, greaterThan(100L * 1024 * 1024));
+        // a buffered body alone would retain bodyBytes; leave room for tests running in parallel
+        assertThat(peakGrowth, lessThan(bodyBytes / 2));
+    }
+
+    private boolean awaitFirstUser() {
+        try {
+            return firstUserRead.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int write(OutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    private static long usedHeapAfterGc(Runtime runtime) {
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,59 @@
+package com.hemanth.tests;
+
+import com.hemanth.base.BaseTest;
+import com.hemanth.util.TestDataContext;
+import com.hemanth.util.ValuePools;
+import com.hemanth.util.ValuePools.Pool;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests for the persisted Faker value pools
+ */
+public class ValuePoolsTest extends BaseTest {
+
+    private Path dir;
+
+    @AfterClass(alwaysRun = true)
+    public void teardown() throws IOException {
+        if (dir == null) {
+            return;
+        }
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    public void poolsAreGeneratedOnceThenLoadedFromDisk() throws IOException {
+        dir = Files.createTempDirectory("value-pools");
+        ValuePools generated = ValuePools.loadOrGenerate(dir, 300, 7);
+        ValuePools loaded = ValuePools.loadOrGenerate(dir, 300, 7);
+
+        assertThat(generated.wasGenerated(), is(true));
+        assertThat(loaded.wasGenerated(), is(false));
+        for (Pool pool : Pool.values()) {
+            assertThat(pool.name(), loaded.size(pool), allOf(greaterThan(0), lessThanOrEqualTo(300)));
+            assertThat(loaded.get(pool, loaded.size(pool) - 1), equalTo(generated.get(pool, generated.size(pool) - 1)));
+
+            Set<String> distinct = new HashSet<>();
+            for (int i = 0; i < loaded.size(pool); i++) {
+                distinct.add(loaded.get(pool, i));
+            }
+            assertThat(distinct, hasSize(loaded.size(pool)));
+        }
+        assertThat(loaded.pick(Pool.EMAIL, TestDataContext.forKey("pools")), containsString("@"));
+    }
+}
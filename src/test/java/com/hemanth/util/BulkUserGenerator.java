@@ -0,0 +1,156 @@
+package com.hemanth.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams synthetic users straight to an NDJSON or JSON-array file with Jackson's {@link JsonGenerator}.
+ * <p>
+ * The id range is split into partitions written concurrently to part files, each with its own
+ * {@link SplittableRandom} split from the base seed, then the parts are concatenated. Memory use does
+ * not depend on the record count, and the same seed, count and partitions produce the same file.
+ * Records use the {@link com.hemanth.models.User} JSON shape; ids run from 1 to count and emails are unique.
+ */
+public class BulkUserGenerator {
+
+    public enum Format { NDJSON, JSON_ARRAY }
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Bob", "Alice", "Charlie", "Diana", "Edward", "Fiona"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Brown", "Wilson", "Davis", "Miller", "Garcia"};
+    private static final String[] JOBS = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager", "Data Analyst"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "test.com", "demo.com", "sample.com"};
+
+    private final long seed;
+    private final int partitions;
+
+    /**
+     * Generator with one partition per CPU
+     */
+    public BulkUserGenerator(long seed) {
+        this(seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BulkUserGenerator(long seed, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be >= 1, got " + partitions);
+        }
+        this.seed = seed;
+        this.partitions = partitions;
+    }
+
+    /**
+     * Write {@code count} users to {@code output}; returns the number of records written
+     */
+    public long generate(Path output, long count, Format format) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0, got " + count);
+        }
+        int parts = (int) Math.max(1, Math.min(partitions, count));
+        SplittableRandom base = new SplittableRandom(seed);
+        List<Path> partFiles = new ArrayList<>(parts);
+        List<Future<?>> writes = new ArrayList<>(parts);
+        ExecutorService executor = Executors.newFixedThreadPool(parts);
+        try {
+            for (int part = 0; part < parts; part++) {
+                long from = count * part / parts;
+                long to = count * (part + 1) / parts;
+                SplittableRandom random = base.split();
+                Path partFile = output.resolveSibling(output.getFileName() + ".part-" + part);
+                partFiles.add(partFile);
+                writes.add(executor.submit(() -> writePartition(partFile, from, to, random, format)));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+            concatenate(output, partFiles, format);
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating users into " + output, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to generate users into " + output, e.getCause());
+        } finally {
+            executor.shutdownNow();
+            for (Path partFile : partFiles) {
+                try {
+                    Files.deleteIfExists(partFile);
+                } catch (IOException e) {
+                    // best effort, the part file is in the output directory
+                }
+            }
+        }
+    }
+
+    private static Void writePartition(Path partFile, long from, long to, SplittableRandom random, Format format)
+            throws IOException {
+        JsonFactory factory = JsonUtils.getObjectMapper().getFactory();
+        try (OutputStream out = Files.newOutputStream(partFile);
+             JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            for (long index = from; index < to; index++) {
+                if (format == Format.JSON_ARRAY && index > 0) {
+                    generator.writeRaw(',');
+                }
+                writeUser(generator, index, random);
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void writeUser(JsonGenerator generator, long index, SplittableRandom random) throws IOException {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        generator.writeStartObject();
+        generator.writeNumberField("id", index + 1);
+        generator.writeStringField("name", firstName + " " + lastName);
+        generator.writeStringField("job", JOBS[random.nextInt(JOBS.length)]);
+        generator.writeStringField("email", "user" + (index + 1) + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]);
+        generator.writeStringField("first_name", firstName);
+        generator.writeStringField("last_name", lastName);
+        generator.writeStringField("avatar", "https://example.com/avatar" + random.nextInt(1000) + ".jpg");
+        generator.writeEndObject();
+    }
+
+    private static void concatenate(Path output, List<Path> partFiles, Format format) {
+        try (FileChannel target = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == Format.JSON_ARRAY) {
+                target.write(StandardCharsets.UTF_8.encode("["));
+            }
+            for (Path partFile : partFiles) {
+                try (FileChannel source = FileChannel.open(partFile, StandardOpenOption.READ)) {
+                    long size = source.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                }
+            }
+            if (format == Format.JSON_ARRAY) {
+                target.write(StandardCharsets.UTF_8.encode("]"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + output, e);
+        }
+    }
+}
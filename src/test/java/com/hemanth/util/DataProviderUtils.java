@@ -1,19 +1,29 @@
 package com.hemanth.util;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hemanth.config.ConfigManager;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvValidationException;
 import org.testng.annotations.DataProvider;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
 public class DataProviderUtils {
@@ -31,40 +41,213 @@ public class DataProviderUtils {
     }
 
     @DataProvider(name="csvData")
-    public static Iterator<Object[]> csvDataprovider() throws IOException,CsvException {
+    public static Iterator<Object[]> csvDataprovider() {
 
-        try(
-                InputStream is = getFileFromResource("testdata/users.csv");
-                CSVReader reader = new CSVReader(new InputStreamReader(is))
-        ){
-            reader.readNext();
-
-            return reader.readAll()
-                    .stream()
-                    .map(line->new Object[]{line[0], line[1]})
-                    .iterator();
-        }
+        // parsed rows come from the on-disk cache unless users.csv changed
+        return ParsedDataCache.getInstance()
+                .getOrLoadResource("testdata/users.csv", "csv", () -> readCsv("testdata/users.csv"))
+                .stream()
+                .map(row->new Object[]{row.get("name"), row.get("job")})
+                .iterator();
 
     }
 
     // 🔹 JSON Data Provider
     @DataProvider(name = "jsonData")
-    public static Iterator<Object[]> jsonDataProvider() throws Exception {
-        try (InputStream is = getFileFromResource("testdata/users.json")) {
+    public static Iterator<Object[]> jsonDataProvider() {
+        List<Map<String, Object>> users = ParsedDataCache.getInstance()
+                .getOrLoadResource("testdata/users.json", "json", () -> readJson("testdata/users.json"));
+
+        List<Object[]> data = new ArrayList<>();
+        for (Map<String, Object> user : users) {
+            data.add(new Object[]{user.get("name"), user.get("job")});
+        }
+        return data.iterator();
+    }
+
+    /**
+     * Lazy CSV provider: rows are parsed as TestNG pulls them, so the file is never fully in memory
+     */
+    @DataProvider(name = "csvDataLazy")
+    public static Iterator<Object[]> csvDataLazyProvider() {
+        return streamCsv("testdata/users.csv");
+    }
+
+    /**
+     * Lazy CSV provider whose rows run concurrently (data-provider-thread-count / dataprovider.thread.count)
+     */
+    @DataProvider(name = "csvDataParallel", parallel = true)
+    public static Iterator<Object[]> csvDataParallelProvider() {
+        return streamCsv("testdata/users.csv");
+    }
+
+    /**
+     * Lazy JSON provider backed by a Jackson streaming parser
+     */
+    @DataProvider(name = "jsonDataLazy")
+    public static Iterator<Object[]> jsonDataLazyProvider() {
+        return streamJson("testdata/users.json");
+    }
+
+    /**
+     * Lazy JSON provider whose rows run concurrently (data-provider-thread-count / dataprovider.thread.count)
+     */
+    @DataProvider(name = "jsonDataParallel", parallel = true)
+    public static Iterator<Object[]> jsonDataParallelProvider() {
+        return streamJson("testdata/users.json");
+    }
+
+    /**
+     * Sharded CSV provider: one memory-mapped partition of users.csv per invocation (testdata.shard.count),
+     * run concurrently; each test parses its shard with {@code shard.csvRows()}
+     */
+    @DataProvider(name = "csvShards", parallel = true)
+    public static Iterator<Object[]> csvShardsProvider() {
+        return ShardedFileReader.open(getResourcePath("testdata/users.csv"),
+                ConfigManager.getInstance().getTestDataShardCount(), true).asDataProvider();
+    }
+
+    private static Path getResourcePath(String path) {
+        URL url = DataProviderUtils.class.getClassLoader().getResource(path);
+        if (url == null) {
+            throw new RuntimeException("File not found" + path);
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | FileSystemNotFoundException e) {
+            throw new RuntimeException("Resource is not a plain file, cannot be memory-mapped: " + path, e);
+        }
+    }
+
+    /**
+     * Stream {name, job} rows of a CSV resource, mapped by header like {@link #readCsv} and skipping blank
+     * lines; the reader is closed once the last row is read
+     */
+    private static Iterator<Object[]> streamCsv(String path) {
+        CSVReader reader = new CSVReader(new InputStreamReader(getFileFromResource(path)));
+        String[] headers;
+        try {
+            headers = reader.readNext();
+        } catch (IOException | CsvValidationException e) {
+            closeQuietly(reader);
+            throw new RuntimeException("Failed to read CSV file: " + path, e);
+        }
+        if (headers == null) {
+            closeQuietly(reader);
+            return Collections.emptyIterator();
+        }
+        int nameColumn = Arrays.asList(headers).indexOf("name");
+        int jobColumn = Arrays.asList(headers).indexOf("job");
+        Iterator<String[]> lines = reader.iterator();
+        return new Iterator<Object[]>() {
+            private String[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && lines.hasNext()) {
+                    String[] line = lines.next();
+                    if (!isBlank(line)) {
+                        next = line;
+                    }
+                }
+                if (next == null) {
+                    closeQuietly(reader);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String[] line = next;
+                next = null;
+                return new Object[]{column(line, nameColumn), column(line, jobColumn)};
+            }
+        };
+    }
+
+    private static String column(String[] line, int index) {
+        return index >= 0 && index < line.length ? line[index] : null;
+    }
+
+    private static boolean isBlank(String[] line) {
+        for (String value : line) {
+            if (value != null && !value.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stream {name, job} rows of a JSON array resource; the parser closes itself at the end of the array
+     */
+    @SuppressWarnings("rawtypes")
+    private static Iterator<Object[]> streamJson(String path) {
+        JsonUtils.JsonArrayIterator<Map> users = JsonUtils.iterateJsonArray(getFileFromResource(path), Map.class);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return users.hasNext();
+            }
 
-            // This creates an instance of Jackson’s ObjectMapper, the main class used to convert between JSON and Java objects.
-            ObjectMapper mapper = new ObjectMapper();
+            @Override
+            public Object[] next() {
+                Map user = users.next();
+                return new Object[]{user.get("name"), user.get("job")};
+            }
+        };
+    }
 
-            // This line reads the JSON from the input stream and deserializes it into a list of maps.
-            List<Map<String, String>> users =
-                    mapper.readValue(is, new TypeReference<>() {});
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close data provider source: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Parse a CSV resource into header-keyed rows
+     */
+    private static List<Map<String, Object>> readCsv(String path) {
+        try(
+                InputStream is = getFileFromResource(path);
+                CSVReader reader = new CSVReader(new InputStreamReader(is))
+        ){
+            String[] headers = reader.readNext();
+            if (headers == null) {
+                return new ArrayList<>();
+            }
 
-            List<Object[]> data = new ArrayList<>();
-            for (Map<String, String> user : users) {
-                data.add(new Object[]{user.get("name"), user.get("job")});
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (String[] line : reader.readAll()) {
+                if (isBlank(line)) {
+                    continue;
+                }
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 0; i < headers.length; i++) {
+                    row.put(headers[i], i < line.length ? line[i] : null);
+                }
+                rows.add(row);
             }
-            return data.iterator();
+            return rows;
+        } catch (IOException | CsvException e) {
+            throw new RuntimeException("Failed to read CSV file: " + path, e);
+        }
+    }
+
+    /**
+     * Parse a JSON array resource into rows
+     */
+    private static List<Map<String, Object>> readJson(String path) {
+        try (InputStream is = getFileFromResource(path)) {
+            // This reads the JSON from the input stream and deserializes it into a list of maps.
+            return JsonUtils.fromJsonInputStream(is, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read JSON file: " + path, e);
         }
     }
 
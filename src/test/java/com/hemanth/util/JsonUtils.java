@@ -1,33 +1,71 @@
 package com.hemanth.util;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.hemanth.config.ConfigManager;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utility class for JSON serialization and deserialization operations
+ * Utility class for JSON serialization and deserialization operations.
+ * Readers and writers are built once per type and cached, so repeated calls skip type resolution
+ * and (de)serializer lookup; ObjectReader/ObjectWriter are immutable and safe to share across threads.
  */
 public class JsonUtils {
 
-    private static final ObjectMapper objectMapper;
+    private static final ObjectMapper objectMapper = newObjectMapper(
+            ConfigManager.getInstance().isJsonBlackbirdEnabled());
 
-    static {
-        objectMapper = new ObjectMapper();
+    private static final JavaType MAP_TYPE = objectMapper.getTypeFactory()
+            .constructMapType(Map.class, String.class, Object.class);
+    private static final ObjectReader MAP_READER = objectMapper.readerFor(MAP_TYPE);
+
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> PRETTY_WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Create an ObjectMapper with the framework's settings, optionally with the Blackbird module
+     * (generates bytecode accessors instead of reflection for faster (de)serialization)
+     */
+    public static ObjectMapper newObjectMapper(boolean blackbird) {
+        ObjectMapper mapper = new ObjectMapper();
         
         // Configure ObjectMapper
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         
         // Configure for better JSON handling
-        objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+        mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+        
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
     }
 
     /**
@@ -37,12 +75,53 @@ public class JsonUtils {
         return objectMapper;
     }
 
+    /**
+     * Get the cached reader for a type
+     */
+    public static ObjectReader readerFor(Class<?> clazz) {
+        return READERS.computeIfAbsent(clazz, type -> objectMapper.readerFor(clazz));
+    }
+
+    /**
+     * Get the cached reader for a generic type, e.g. {@code new TypeReference<ApiResponse<User>>() {}}
+     */
+    public static ObjectReader readerFor(TypeReference<?> typeReference) {
+        return READERS.computeIfAbsent(typeReference.getType(), type -> objectMapper.readerFor(typeReference));
+    }
+
+    /**
+     * Get the cached reader for {@code List<clazz>}
+     */
+    public static ObjectReader listReaderFor(Class<?> clazz) {
+        return LIST_READERS.computeIfAbsent(clazz, type -> objectMapper.readerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, clazz)));
+    }
+
+    /**
+     * Get the cached writer for a type
+     */
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return WRITERS.computeIfAbsent(clazz, type -> objectMapper.writerFor(clazz));
+    }
+
+    private static ObjectWriter prettyWriterFor(Class<?> clazz) {
+        return PRETTY_WRITERS.computeIfAbsent(clazz, type -> writerFor(clazz).withDefaultPrettyPrinter());
+    }
+
+    private static ObjectWriter writerForValue(Object object) {
+        return object != null ? writerFor(object.getClass()) : objectMapper.writer();
+    }
+
+    private static ObjectWriter prettyWriterForValue(Object object) {
+        return object != null ? prettyWriterFor(object.getClass()) : objectMapper.writerWithDefaultPrettyPrinter();
+    }
+
     /**
      * Serialize object to JSON string
      */
     public static String toJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return writerForValue(object).writeValueAsString(object);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize object to JSON", e);
         }
@@ -53,7 +132,7 @@ public class JsonUtils {
      */
     public static String toPrettyJson(Object object) {
         try {
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(object);
+            return prettyWriterForValue(object).writeValueAsString(object);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize object to pretty JSON", e);
         }
@@ -64,7 +143,7 @@ public class JsonUtils {
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return readerFor(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to deserialize JSON to " + clazz.getSimpleName(), e);
         }
@@ -75,7 +154,7 @@ public class JsonUtils {
      */
     public static <T> T fromJson(String json, TypeReference<T> typeReference) {
         try {
-            return objectMapper.readValue(json, typeReference);
+            return readerFor(typeReference).readValue(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to deserialize JSON to " + typeReference.getType(), e);
         }
@@ -86,8 +165,7 @@ public class JsonUtils {
      */
     public static <T> List<T> fromJsonToList(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, 
-                objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+            return listReaderFor(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to deserialize JSON to List<" + clazz.getSimpleName() + ">", e);
         }
@@ -98,7 +176,7 @@ public class JsonUtils {
      */
     public static Map<String, Object> fromJsonToMap(String json) {
         try {
-            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+            return MAP_READER.readValue(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to deserialize JSON to Map", e);
         }
@@ -109,7 +187,7 @@ public class JsonUtils {
      */
     public static <T> T fromJsonFile(String filePath, Class<T> clazz) {
         try {
-            return objectMapper.readValue(new File(filePath), clazz);
+            return readerFor(clazz).readValue(new File(filePath));
         } catch (IOException e) {
             throw new RuntimeException("Failed to read JSON file: " + filePath, e);
         }
@@ -120,7 +198,7 @@ public class JsonUtils {
      */
     public static <T> T fromJsonFile(File file, Class<T> clazz) {
         try {
-            return objectMapper.readValue(file, clazz);
+            return readerFor(clazz).readValue(file);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read JSON file: " + file.getPath(), e);
         }
@@ -131,12 +209,146 @@ public class JsonUtils {
      */
     public static <T> T fromJsonInputStream(InputStream inputStream, Class<T> clazz) {
         try {
-            return objectMapper.readValue(inputStream, clazz);
+            return readerFor(clazz).readValue(inputStream);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read JSON from InputStream", e);
         }
     }
 
+    /**
+     * Deserialize JSON from InputStream to object using TypeReference (for generics)
+     */
+    public static <T> T fromJsonInputStream(InputStream inputStream, TypeReference<T> typeReference) {
+        try {
+            return readerFor(typeReference).readValue(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + typeReference.getType() + " from InputStream", e);
+        }
+    }
+
+    /**
+     * Deserialize JSON array from InputStream to List of objects
+     */
+    public static <T> List<T> fromJsonInputStreamToList(InputStream inputStream, Class<T> clazz) {
+        try {
+            return listReaderFor(clazz).readValue(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read List<" + clazz.getSimpleName() + "> from InputStream", e);
+        }
+    }
+
+    /**
+     * Iterate a JSON array from an InputStream one element at a time.
+     * Accepts a top-level array or a paginated object whose "data" field is the array.
+     * Only the current element is held in memory; the stream is closed once exhausted or on close().
+     */
+    public static <T> JsonArrayIterator<T> iterateJsonArray(InputStream inputStream, Class<T> clazz) {
+        return iterateJsonArray(inputStream, clazz, "data");
+    }
+
+    /**
+     * Iterate a JSON array that is either top-level or the given field of a top-level object
+     */
+    public static <T> JsonArrayIterator<T> iterateJsonArray(InputStream inputStream, Class<T> clazz, String arrayField) {
+        JsonParser parser = null;
+        try {
+            parser = objectMapper.getFactory().createParser(inputStream);
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = seekArrayField(parser, arrayField);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new RuntimeException("Expected a JSON array or an object with a \"" + arrayField + "\" array");
+            }
+            return new JsonArrayIterator<>(parser, readerFor(clazz));
+        } catch (IOException e) {
+            closeQuietly(parser);
+            throw new RuntimeException("Failed to read JSON array from InputStream", e);
+        } catch (RuntimeException e) {
+            closeQuietly(parser);
+            throw e;
+        }
+    }
+
+    /**
+     * Stream a JSON array from an InputStream element by element; close the stream to release the input
+     */
+    public static <T> Stream<T> streamJsonArray(InputStream inputStream, Class<T> clazz) {
+        JsonArrayIterator<T> iterator = iterateJsonArray(inputStream, clazz);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private static JsonToken seekArrayField(JsonParser parser, String arrayField) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(arrayField) && value == JsonToken.START_ARRAY) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static void closeQuietly(JsonParser parser) {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+        }
+    }
+
+    /**
+     * Pull-based iterator over the elements of a JSON array, backed by a streaming parser
+     */
+    public static final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+        private final JsonParser parser;
+        private final ObjectReader reader;
+        private JsonToken current;
+
+        private JsonArrayIterator(JsonParser parser, ObjectReader reader) throws IOException {
+            this.parser = parser;
+            this.reader = reader;
+            this.current = parser.nextToken();
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = current != null && current != JsonToken.END_ARRAY;
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T value = reader.readValue(parser);
+                current = parser.nextToken();
+                return value;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read next JSON array element", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            current = null;
+            if (!parser.isClosed()) {
+                closeQuietly(parser);
+            }
+        }
+    }
+
     /**
      * Deserialize JSON from classpath resource to object
      */
@@ -145,7 +357,7 @@ public class JsonUtils {
             if (inputStream == null) {
                 throw new RuntimeException("Resource not found: " + resourcePath);
             }
-            return objectMapper.readValue(inputStream, clazz);
+            return readerFor(clazz).readValue(inputStream);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read JSON from classpath resource: " + resourcePath, e);
         }
@@ -156,7 +368,7 @@ public class JsonUtils {
      */
     public static void writeJsonToFile(Object object, String filePath) {
         try {
-            objectMapper.writeValue(new File(filePath), object);
+            writerForValue(object).writeValue(new File(filePath), object);
         } catch (IOException e) {
             throw new RuntimeException("Failed to write JSON to file: " + filePath, e);
         }
@@ -167,7 +379,7 @@ public class JsonUtils {
      */
     public static void writePrettyJsonToFile(Object object, String filePath) {
         try {
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(filePath), object);
+            prettyWriterForValue(object).writeValue(new File(filePath), object);
         } catch (IOException e) {
             throw new RuntimeException("Failed to write pretty JSON to file: " + filePath, e);
         }
@@ -177,7 +389,7 @@ public class JsonUtils {
      * Convert object to Map
      */
     public static Map<String, Object> toMap(Object object) {
-        return objectMapper.convertValue(object, new TypeReference<Map<String, Object>>() {});
+        return objectMapper.convertValue(object, MAP_TYPE);
     }
 
     /**
@@ -0,0 +1,393 @@
+package com.hemanth.util;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.hemanth.config.ConfigManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * On-disk cache of parsed test datasets (rows of column -> value), shared across JVM forks and runs.
+ * <p>
+ * Each entry is a compact tagged binary file under testdata.cache.dir, named after the source and
+ * variant (e.g. the sheet name). Its header records the source's size, mtime and content hash; an entry
+ * is only used while all three still match, otherwise the source is re-parsed and the entry rewritten.
+ * Hits are read through a memory-mapped buffer, so later runs skip POI/opencsv/Jackson entirely.
+ * Values may be null, String, Integer, Long, Double, Boolean, Date, List or Map.
+ */
+public class ParsedDataCache {
+
+    private static final int MAGIC = 0x50444331; // "PDC1"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DATE = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+
+    private final boolean enabled;
+    private final Path cacheDir;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public ParsedDataCache(Path cacheDir, boolean enabled) {
+        this.cacheDir = cacheDir;
+        this.enabled = enabled;
+    }
+
+    private static final class Holder {
+        private static final ParsedDataCache INSTANCE = new ParsedDataCache(
+                Paths.get(ConfigManager.getInstance().getTestDataCacheDir()),
+                ConfigManager.getInstance().isTestDataCacheEnabled());
+    }
+
+    /**
+     * Get the cache configured by testdata.cache.dir / testdata.cache.enabled
+     */
+    public static ParsedDataCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the parsed rows of a file, from the cache if the file is unchanged, otherwise via {@code parser}
+     */
+    public List<Map<String, Object>> getOrLoad(Path source, String variant, Supplier<List<Map<String, Object>>> parser) {
+        if (!enabled) {
+            return parser.get();
+        }
+        try {
+            return getOrLoad(SourceInfo.of(source), variant, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read test data source: " + source, e);
+        }
+    }
+
+    /**
+     * Get the parsed rows of a classpath resource, from the cache if it is unchanged, otherwise via {@code parser}
+     */
+    public List<Map<String, Object>> getOrLoadResource(String resourcePath, String variant,
+                                                       Supplier<List<Map<String, Object>>> parser) {
+        if (!enabled) {
+            return parser.get();
+        }
+        URL url = ParsedDataCache.class.getClassLoader().getResource(resourcePath);
+        if (url == null) {
+            throw new RuntimeException("Resource not found: " + resourcePath);
+        }
+        try {
+            return getOrLoad(SourceInfo.of(url), variant, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read test data resource: " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Delete all cache entries
+     */
+    public void clear() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (var entries = Files.list(cacheDir)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                Files.deleteIfExists(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear test data cache: " + cacheDir, e);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Summary of cold (parse + write) vs warm (mapped read) load times
+     */
+    public String getStats() {
+        return String.format("test data cache: %d warm loads (%.1f ms), %d cold parses (%.1f ms)",
+                getHits(), hitNanos.sum() / 1e6, getMisses(), missNanos.sum() / 1e6);
+    }
+
+    private List<Map<String, Object>> getOrLoad(SourceInfo source, String variant,
+                                                Supplier<List<Map<String, Object>>> parser) throws IOException {
+        long start = System.nanoTime();
+        Path entry = cacheDir.resolve(Hashing.sha256()
+                .hashString(source.id + "#" + variant, StandardCharsets.UTF_8) + ".bin");
+
+        List<Map<String, Object>> cached = readEntry(entry, source);
+        if (cached != null) {
+            hits.increment();
+            hitNanos.add(System.nanoTime() - start);
+            return cached;
+        }
+
+        List<Map<String, Object>> rows = parser.get();
+        writeEntry(entry, source, rows);
+        misses.increment();
+        missNanos.add(System.nanoTime() - start);
+        return rows;
+    }
+
+    private List<Map<String, Object>> readEntry(Path entry, SourceInfo source) throws IOException {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long size = buffer.getLong();
+            long mtime = buffer.getLong();
+            byte[] hash = new byte[buffer.getInt()];
+            buffer.get(hash);
+            if (size != source.size || mtime != source.mtime || !Arrays.equals(hash, source.hash)) {
+                return null; // stale: source changed since the entry was written
+            }
+
+            String[] keys = new String[buffer.getInt()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = readString(buffer);
+            }
+            int rowCount = buffer.getInt();
+            List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+            for (int r = 0; r < rowCount; r++) {
+                int fieldCount = buffer.getInt();
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int f = 0; f < fieldCount; f++) {
+                    row.put(keys[buffer.getInt()], readValue(buffer));
+                }
+                rows.add(row);
+            }
+            return rows;
+        } catch (RuntimeException e) {
+            return null; // truncated or corrupt entry, re-parse
+        }
+    }
+
+    private void writeEntry(Path entry, SourceInfo source, List<Map<String, Object>> rows) throws IOException {
+        Map<String, Integer> keyIndex = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            for (String key : row.keySet()) {
+                keyIndex.putIfAbsent(key, keyIndex.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(source.size);
+            out.writeLong(source.mtime);
+            out.writeInt(source.hash.length);
+            out.write(source.hash);
+            out.writeInt(keyIndex.size());
+            for (String key : keyIndex.keySet()) {
+                writeString(out, key);
+            }
+            out.writeInt(rows.size());
+            for (Map<String, Object> row : rows) {
+                out.writeInt(row.size());
+                for (Map.Entry<String, Object> field : row.entrySet()) {
+                    out.writeInt(keyIndex.get(field.getKey()));
+                    writeValue(out, field.getValue());
+                }
+            }
+        }
+
+        // write to a temp file and move, so a concurrent fork never maps a half-written entry
+        Files.createDirectories(cacheDir);
+        Path temp = Files.createTempFile(cacheDir, entry.getFileName().toString(), ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> field : map.entrySet()) {
+                writeString(out, String.valueOf(field.getKey()));
+                writeValue(out, field.getValue());
+            }
+        } else {
+            out.writeByte(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(buffer);
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case DATE:
+                return new Date(buffer.getLong());
+            case LIST:
+                int size = buffer.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            case MAP:
+                int fields = buffer.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < fields; i++) {
+                    map.put(readString(buffer), readValue(buffer));
+                }
+                return map;
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[buffer.getInt()];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Identity of a source: id (path or URL), size, mtime and content hash
+     */
+    private static final class SourceInfo {
+        private final String id;
+        private final long size;
+        private final long mtime;
+        private final byte[] hash;
+
+        private SourceInfo(String id, long size, long mtime, byte[] hash) {
+            this.id = id;
+            this.size = size;
+            this.mtime = mtime;
+            this.hash = hash;
+        }
+
+        static SourceInfo of(Path path) throws IOException {
+            Path absolute = path.toAbsolutePath().normalize();
+            try (InputStream in = Files.newInputStream(absolute)) {
+                return new SourceInfo(absolute.toString(), Files.size(absolute),
+                        Files.getLastModifiedTime(absolute).toMillis(), hash(in).asBytes());
+            }
+        }
+
+        static SourceInfo of(URL url) throws IOException {
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    return of(Paths.get(url.toURI()));
+                } catch (URISyntaxException e) {
+                    throw new IOException("Invalid resource URL: " + url, e);
+                }
+            }
+            URLConnection connection = url.openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                CountingHash counted = new CountingHash(in);
+                return new SourceInfo(url.toString(), counted.size, connection.getLastModified(), counted.hash.asBytes());
+            }
+        }
+
+        private static HashCode hash(InputStream in) throws IOException {
+            return new CountingHash(in).hash;
+        }
+    }
+
+    private static final class CountingHash {
+        private final long size;
+        private final HashCode hash;
+
+        private CountingHash(InputStream in) throws IOException {
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            byte[] chunk = new byte[64 * 1024];
+            long total = 0;
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                hasher.putBytes(chunk, 0, read);
+                total += read;
+            }
+            this.size = total;
+            this.hash = hasher.hash();
+        }
+    }
+}
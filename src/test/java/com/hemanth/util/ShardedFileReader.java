@@ -0,0 +1,288 @@
+package com.hemanth.util;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opencsv.CSVParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads very large line-oriented files (CSV, NDJSON) as independent, memory-mapped partitions.
+ * <p>
+ * The file is split into line-aligned shards of roughly equal size; each shard is a read-only mapping
+ * of its byte range, so shards can be parsed on separate threads (see {@link #parallelStream}) or handed
+ * to TestNG / a load generator one partition per worker (see {@link #asDataProvider}).
+ * Blank lines are skipped and CSV records may not span lines.
+ */
+public class ShardedFileReader {
+
+    // keep every mapping well below the 2 GB MappedByteBuffer limit
+    private static final long MAX_SHARD_BYTES = 1L << 30;
+    private static final int SCAN_CHUNK = 64 * 1024;
+
+    private final Path path;
+    private final String header;
+    private final List<Shard> shards;
+
+    private ShardedFileReader(Path path, String header, List<Shard> shards) {
+        this.path = path;
+        this.header = header;
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    /**
+     * Split a file into {@code shardCount} line-aligned shards (more if a shard would exceed 1 GB)
+     */
+    public static ShardedFileReader open(Path path, int shardCount) {
+        return open(path, shardCount, false);
+    }
+
+    /**
+     * Split a file into line-aligned shards; with {@code hasHeader} the first line is kept apart
+     * and available from {@link #getHeader()}
+     */
+    public static ShardedFileReader open(Path path, int shardCount, boolean hasHeader) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be >= 1, got " + shardCount);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = 0;
+            String header = null;
+            if (hasHeader) {
+                dataStart = nextLineStart(channel, 1, size);
+                header = readHeader(channel, dataStart);
+            }
+
+            long dataBytes = size - dataStart;
+            int count = (int) Math.max(shardCount, (dataBytes + MAX_SHARD_BYTES - 1) / MAX_SHARD_BYTES);
+            List<Shard> shards = new ArrayList<>(count);
+            long start = dataStart;
+            for (int i = 1; i <= count && start < size; i++) {
+                long end = i == count ? size
+                        : nextLineStart(channel, Math.max(start, dataStart + dataBytes * i / count), size);
+                if (end > start) {
+                    // the mapping stays valid after the channel is closed
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                    shards.add(new Shard(shards.size(), start, buffer));
+                }
+                start = end;
+            }
+            return new ShardedFileReader(path, header, shards);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map file: " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * First line of the file when opened with a header, otherwise null
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Parse all shards concurrently (one shard per task); order across shards is not preserved
+     */
+    public <T> Stream<T> parallelStream(Function<Shard, Stream<T>> parser) {
+        return shards.parallelStream().flatMap(parser);
+    }
+
+    /**
+     * TestNG data provider rows: one {@code Object[]{shard}} per partition, for a {@code parallel = true} provider
+     */
+    public Iterator<Object[]> asDataProvider() {
+        return shards.stream().map(shard -> new Object[]{shard}).iterator();
+    }
+
+    /**
+     * Offset of the first line starting at or after {@code target}
+     */
+    private static long nextLineStart(FileChannel channel, long target, long size) throws IOException {
+        if (target == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK);
+        long position = target - 1;
+        while (position < size) {
+            chunk.clear();
+            int read = channel.read(chunk, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (chunk.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static String readHeader(FileChannel channel, long headerEnd) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((int) headerEnd);
+        while (bytes.hasRemaining() && channel.read(bytes, bytes.position()) > 0) {
+            // keep reading until the whole first line is in
+        }
+        return stripLineEnd(new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8));
+    }
+
+    private static String stripLineEnd(String line) {
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+
+    /**
+     * One partition of the file: a read-only mapping of whole lines. Each iterator has its own cursor,
+     * so a shard can be read by one thread while other shards are read by others.
+     */
+    public static final class Shard {
+        private final int index;
+        private final long offset;
+        private final MappedByteBuffer buffer;
+
+        private Shard(int index, long offset, MappedByteBuffer buffer) {
+            this.index = index;
+            this.offset = offset;
+            this.buffer = buffer;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Byte offset of the shard in the file
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getSizeBytes() {
+            return buffer.capacity();
+        }
+
+        /**
+         * Iterate the raw UTF-8 bytes of each non-blank line (without line terminator);
+         * whitespace-only lines count as blank, as they do for DataProviderUtils
+         */
+        public Iterator<byte[]> lineBytes() {
+            ByteBuffer view = buffer.duplicate();
+            return new Iterator<byte[]>() {
+                private int position;
+                private byte[] next;
+
+                @Override
+                public boolean hasNext() {
+                    int limit = view.limit();
+                    while (next == null && position < limit) {
+                        int end = position;
+                        while (end < limit && view.get(end) != '\n') {
+                            end++;
+                        }
+                        int lineEnd = end > position && view.get(end - 1) == '\r' ? end - 1 : end;
+                        if (!isBlank(view, position, lineEnd)) {
+                            next = new byte[lineEnd - position];
+                            view.get(position, next);
+                        }
+                        position = end + 1;
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public byte[] next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    byte[] line = next;
+                    next = null;
+                    return line;
+                }
+            };
+        }
+
+        /**
+         * Stream the non-blank lines of the shard
+         */
+        public Stream<String> lines() {
+            return stream(lineBytes()).map(line -> new String(line, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Stream the shard as CSV records (opencsv parser, one record per line)
+         */
+        public Stream<String[]> csvRows() {
+            CSVParser parser = new CSVParser();
+            return lines().map(line -> {
+                try {
+                    return parser.parseLine(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Invalid CSV line in shard " + index, e);
+                }
+            });
+        }
+
+        /**
+         * Stream the shard as NDJSON, one value of {@code clazz} per line
+         */
+        public <T> Stream<T> jsonRows(Class<T> clazz) {
+            ObjectReader reader = JsonUtils.readerFor(clazz);
+            return stream(lineBytes()).map(line -> {
+                try {
+                    return reader.readValue(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Invalid JSON line in shard " + index, e);
+                }
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "shard-" + index + "@" + offset + "+" + getSizeBytes();
+        }
+
+        // same test as String.trim(): every byte is a space or a control character
+        private static boolean isBlank(ByteBuffer view, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if ((view.get(i) & 0xff) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static <T> Stream<T> stream(Iterator<T> iterator) {
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.hemanth.util;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Row-by-row .xlsx reader built on POI's XSSF event (SAX) API.
+ * <p>
+ * The sheet XML is parsed on a background thread into a small bounded queue, so memory stays roughly
+ * constant no matter how many rows the sheet has (only the shared-strings table is loaded up front).
+ * Rows come back in the same shape as {@link TestDataManager#readExcelFile}: the first row is the
+ * header, numbers are Long/Double, booleans are Booleans, date-formatted numbers are Dates, formulas
+ * are their text, blank cells are "" and missing cells are null.
+ * Close the reader (or the stream) if it is not consumed to the end.
+ */
+public class StreamingExcelReader implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final String source;
+    private final Thread producer;
+
+    private Object next;
+    private boolean finished;
+    private volatile boolean closed;
+
+    private StreamingExcelReader(OPCPackage pkg, String sheetName, String source) {
+        this.source = source;
+        InputStream sheet;
+        ReadOnlySharedStringsTable strings;
+        StylesTable styles;
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            sheet = findSheet(reader, sheetName);
+            strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable workbookStyles = reader.getStylesTable();
+            // without a styles table numbers would come back unformatted, as Strings
+            styles = workbookStyles != null ? workbookStyles : new StylesTable();
+        } catch (Exception e) {
+            pkg.revert();
+            throw new RuntimeException("Failed to open Excel " + source, e);
+        }
+        if (sheet == null) {
+            pkg.revert();
+            throw new RuntimeException("Sheet '" + sheetName + "' not found in " + source);
+        }
+
+        this.producer = new Thread(() -> parse(pkg, sheet, strings, styles), "excel-reader");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Open a sheet of an .xlsx file for streaming
+     */
+    public static StreamingExcelReader open(String filePath, String sheetName) {
+        try {
+            return new StreamingExcelReader(OPCPackage.open(new File(filePath), PackageAccess.READ),
+                    sheetName, "file: " + filePath);
+        } catch (Exception e) {
+            throw e instanceof RuntimeException ? (RuntimeException) e
+                    : new RuntimeException("Failed to read Excel file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Open a sheet of an .xlsx stream (the zip is buffered, the sheet is still parsed incrementally)
+     */
+    public static StreamingExcelReader open(InputStream inputStream, String sheetName, String source) {
+        if (inputStream == null) {
+            throw new RuntimeException("Excel source not found: " + source);
+        }
+        try {
+            return new StreamingExcelReader(OPCPackage.open(inputStream), sheetName, source);
+        } catch (Exception e) {
+            throw e instanceof RuntimeException ? (RuntimeException) e
+                    : new RuntimeException("Failed to read Excel " + source, e);
+        }
+    }
+
+    /**
+     * Expose the rows as a sequential stream; closing the stream closes the reader
+     */
+    public Stream<Map<String, Object>> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeException("Interrupted while reading Excel " + source, e);
+        }
+        if (item == END) {
+            finished = true;
+            return false;
+        }
+        if (item instanceof Throwable) {
+            finished = true;
+            throw new RuntimeException("Failed to read Excel " + source, (Throwable) item);
+        }
+        next = item;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, Object> row = (Map<String, Object>) next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stop the background parser and release the file
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        finished = true;
+        producer.interrupt();
+        queue.clear();
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheets.getSheetName().equals(sheetName)) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        return null;
+    }
+
+    private void parse(OPCPackage pkg, InputStream sheet, ReadOnlySharedStringsTable strings, StylesTable styles) {
+        try (InputStream in = sheet) {
+            TypedValueFormatter formatter = new TypedValueFormatter();
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new TypedSheetHandler(styles, strings, new RowHandler(formatter), formatter));
+            parser.parse(new InputSource(in));
+            publishLast(END);
+        } catch (Exception e) {
+            boolean stopped = e instanceof StopParsing || e.getCause() instanceof StopParsing;
+            publishLast(stopped ? END : e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private void publishLast(Object item) {
+        if (closed) {
+            return;
+        }
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            // closed by the consumer, nobody is waiting for the end marker
+        }
+    }
+
+    private void publish(Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            // closed by the consumer
+            throw new StopParsing();
+        }
+    }
+
+    /**
+     * Turns SAX cell callbacks into header-keyed row maps
+     */
+    private final class RowHandler implements SheetContentsHandler {
+        private final TypedValueFormatter formatter;
+        private List<String> headers;
+        private Object[] values;
+        private int nextColumn;
+        private boolean cellReported;
+
+        private RowHandler(TypedValueFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            if (closed) {
+                throw new StopParsing();
+            }
+            if (headers == null) {
+                if (rowNum != 0) {
+                    // same as the DOM reader: no header row means no data
+                    throw new StopParsing();
+                }
+                headers = new ArrayList<>();
+            } else {
+                values = new Object[headers.size()];
+            }
+            nextColumn = 0;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            cellReported = true;
+            Object value = formatter.takeValue(formattedValue);
+            if (values == null) {
+                headers.add(value != null ? value.toString() : "");
+            } else if (column < values.length) {
+                values[column] = value;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (values == null) {
+                return; // header row
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                row.put(headers.get(i), values[i]);
+            }
+            publish(row);
+        }
+    }
+
+    /**
+     * Tells the row handler what SheetContentsHandler does not get: which cells are stored as booleans
+     * (t="b", so a "TRUE" text cell stays a String) and which are blank (no value, reported as "")
+     */
+    private static final class TypedSheetHandler extends XSSFSheetXMLHandler {
+        private final RowHandler rows;
+        private final TypedValueFormatter formatter;
+        private String cellReference;
+
+        private TypedSheetHandler(StylesTable styles, ReadOnlySharedStringsTable strings,
+                                  RowHandler rows, TypedValueFormatter formatter) {
+            super(styles, null, strings, rows, formatter, true);
+            this.rows = rows;
+            this.formatter = formatter;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+            if ("c".equals(localName)) {
+                cellReference = attributes.getValue("r");
+                formatter.booleanCell = "b".equals(attributes.getValue("t"));
+                rows.cellReported = false;
+            }
+            super.startElement(uri, localName, qName, attributes);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            super.endElement(uri, localName, qName);
+            if ("c".equals(localName) && !rows.cellReported) {
+                rows.cell(cellReference, "", null);
+            }
+        }
+    }
+
+    /**
+     * Captures the raw numeric value the SAX handler formats, so cells keep their Java type
+     */
+    private static final class TypedValueFormatter extends DataFormatter {
+        private Object pendingNumeric;
+        private boolean booleanCell;
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                pendingNumeric = DateUtil.getJavaDate(value);
+            } else if (value == (long) value) {
+                pendingNumeric = (long) value;
+            } else {
+                pendingNumeric = value;
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+
+        private Object takeValue(String formattedValue) {
+            Object value = pendingNumeric;
+            pendingNumeric = null;
+            if (value != null) {
+                return value;
+            }
+            if (booleanCell) {
+                return Boolean.valueOf("TRUE".equals(formattedValue));
+            }
+            return formattedValue;
+        }
+    }
+
+    /**
+     * Unwinds the SAX parser when the reader is closed or there is nothing more to read
+     */
+    private static final class StopParsing extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private StopParsing() {
+            super(null, null, false, false);
+        }
+    }
+}
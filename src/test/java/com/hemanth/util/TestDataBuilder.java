@@ -5,19 +5,25 @@ import com.hemanth.models.User;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * Utility class for building test data objects
+ * Utility class for building test data objects.
+ * Random values come from the calling test's seeded stream ({@link TestDataContext}), so they are
+ * reproducible from the run seed and need no shared lock.
  */
 public class TestDataBuilder {
 
-    private static final Random random = new Random();
+    private static final String[] NAMES = {"John Doe", "Jane Smith", "Bob Johnson", "Alice Brown",
+            "Charlie Wilson", "Diana Davis", "Edward Miller", "Fiona Garcia"};
+    private static final String[] JOBS = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager",
+            "Data Analyst", "UX Designer", "Project Manager", "Business Analyst"};
 
     /**
      * Build a User object with random data
      */
     public static User buildRandomUser() {
+        SplittableRandom random = TestDataContext.current();
         return new User()
                 .setName("Test User " + random.nextInt(1000))
                 .setJob("Test Job " + random.nextInt(1000))
@@ -114,18 +120,20 @@ public class TestDataBuilder {
      * Get a random name from predefined list
      */
     public static String getRandomName() {
-        String[] names = {"John Doe", "Jane Smith", "Bob Johnson", "Alice Brown", 
-                         "Charlie Wilson", "Diana Davis", "Edward Miller", "Fiona Garcia"};
-        return names[random.nextInt(names.length)];
+        if (ValuePools.isEnabled()) {
+            return ValuePools.getInstance().pick(ValuePools.Pool.FULL_NAME);
+        }
+        return NAMES[TestDataContext.current().nextInt(NAMES.length)];
     }
 
     /**
      * Get a random job from predefined list
      */
     public static String getRandomJob() {
-        String[] jobs = {"Software Engineer", "QA Engineer", "DevOps Engineer", "Product Manager",
-                        "Data Analyst", "UX Designer", "Project Manager", "Business Analyst"};
-        return jobs[random.nextInt(jobs.length)];
+        if (ValuePools.isEnabled()) {
+            return ValuePools.getInstance().pick(ValuePools.Pool.JOB_TITLE);
+        }
+        return JOBS[TestDataContext.current().nextInt(JOBS.length)];
     }
 
     /**
@@ -0,0 +1,97 @@
+package com.hemanth.util;
+
+import com.google.common.hash.Hashing;
+import com.hemanth.config.ConfigManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded source of randomness for test data generation.
+ * <p>
+ * One run seed (datagen.seed, or a fresh one that is printed at suite start) is turned into an independent
+ * {@link SplittableRandom} per key: a test invocation, a virtual user, a partition. The stream for a bound
+ * key only depends on the run seed and the key, so a failing run replays exactly with
+ * {@code -Ddatagen.seed=<seed>}. Threads that use {@link #current()} without binding a key get a unique
+ * stream each, but which one depends on scheduling, so code that must replay binds a key first.
+ * Streams are thread-confined, so there is no contention across cores.
+ */
+public final class TestDataContext {
+
+    private static final long RUN_SEED = resolveRunSeed();
+    private static final ThreadLocal<Bound> CURRENT = new ThreadLocal<>();
+    // virtual threads are unnamed, so unbound threads are numbered instead of keyed by name
+    private static final AtomicLong UNBOUND_THREADS = new AtomicLong();
+
+    private TestDataContext() {
+    }
+
+    /**
+     * Seed all data of this run derives from
+     */
+    public static long getRunSeed() {
+        return RUN_SEED;
+    }
+
+    /**
+     * Fresh stream for a key, e.g. "vuser-17"; the same key yields the same values within a run seed
+     */
+    public static SplittableRandom forKey(String key) {
+        return new SplittableRandom(seedFor(key));
+    }
+
+    /**
+     * Bind the current thread to a key's stream (done per test invocation by SeededDataListener)
+     */
+    public static void bind(String key) {
+        CURRENT.set(new Bound(key, forKey(key)));
+    }
+
+    /**
+     * Release the current thread's stream
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Key bound to the current thread, or null
+     */
+    public static String currentKey() {
+        Bound bound = CURRENT.get();
+        return bound != null ? bound.key : null;
+    }
+
+    /**
+     * The current thread's stream; an unbound thread gets its own stream under a fresh "unbound-n" key
+     */
+    public static SplittableRandom current() {
+        Bound bound = CURRENT.get();
+        if (bound == null) {
+            bind("unbound-" + UNBOUND_THREADS.incrementAndGet());
+            bound = CURRENT.get();
+        }
+        return bound.random;
+    }
+
+    private static long seedFor(String key) {
+        return RUN_SEED ^ Hashing.murmur3_128().hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    private static long resolveRunSeed() {
+        String seed = ConfigManager.getInstance().getDataGenSeed();
+        return seed != null ? Long.parseLong(seed) : ThreadLocalRandom.current().nextLong();
+    }
+
+    private static final class Bound {
+        private final String key;
+        private final SplittableRandom random;
+
+        private Bound(String key, SplittableRandom random) {
+            this.key = key;
+            this.random = random;
+        }
+    }
+}
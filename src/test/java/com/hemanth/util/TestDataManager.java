@@ -1,37 +1,52 @@
 package com.hemanth.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.hemanth.config.ConfigManager;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Test Data Manager for fetching test data from Excel and JSON files
  */
 public class TestDataManager {
     
-    private static TestDataManager instance;
     private final ConfigManager config;
-    private final Map<String, Object> cachedData;
+    private final Cache<String, SheetData> cachedData;
     
     private TestDataManager() {
         this.config = ConfigManager.getInstance();
-        this.cachedData = new HashMap<>();
+        // bounded by estimated heap bytes; least recently used sheets are evicted first
+        this.cachedData = CacheBuilder.newBuilder()
+                .maximumWeight(config.getTestDataCacheMaxBytes())
+                .weigher((String key, SheetData sheet) -> sheet.estimatedBytes)
+                .recordStats()
+                .build();
+    }
+    
+    private static final class Holder {
+        private static final TestDataManager INSTANCE = new TestDataManager();
     }
     
     /**
      * Get singleton instance
      */
-    public static synchronized TestDataManager getInstance() {
-        if (instance == null) {
-            instance = new TestDataManager();
-        }
-        return instance;
+    public static TestDataManager getInstance() {
+        return Holder.INSTANCE;
     }
     
     /**
@@ -72,6 +87,29 @@ public class TestDataManager {
         }
     }
     
+    /**
+     * Stream rows of an Excel sheet lazily with roughly constant memory (XSSF event API).
+     * Use in try-with-resources; rows have the same shape as {@link #readExcelFile}.
+     */
+    public Stream<Map<String, Object>> streamExcelFile(String filePath, String sheetName) {
+        return StreamingExcelReader.open(filePath, sheetName).stream();
+    }
+    
+    /**
+     * Stream rows of an Excel sheet on the classpath
+     */
+    public Stream<Map<String, Object>> streamExcelFromClasspath(String resourcePath, String sheetName) {
+        InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        return StreamingExcelReader.open(is, sheetName, "resource: " + resourcePath).stream();
+    }
+    
+    /**
+     * Iterate rows of an Excel sheet lazily; close the reader if not consumed to the end
+     */
+    public StreamingExcelReader iterateExcelFile(String filePath, String sheetName) {
+        return StreamingExcelReader.open(filePath, sheetName);
+    }
+    
     /**
      * Extract data from Excel sheet
      */
@@ -161,20 +199,97 @@ public class TestDataManager {
     }
     
     /**
-     * Read test data from Excel with caching
+     * Read test data from Excel with caching.
+     * Returns a shared, read-only view of the cached rows; copy it before modifying.
      */
     public List<Map<String, Object>> getTestDataFromExcel(String filePath, String sheetName) {
+        return getSheetData(filePath, sheetName).rows;
+    }
+    
+    /**
+     * Get the rows of a sheet grouped by the value of one column (read-only, built once per sheet and column)
+     */
+    public Map<Object, List<Map<String, Object>>> getColumnIndex(String filePath, String sheetName, String columnName) {
+        SheetData sheet = getSheetData(filePath, sheetName);
+        return sheet.indexes.computeIfAbsent(columnName, column -> buildColumnIndex(sheet.rows, column));
+    }
+    
+    private SheetData getSheetData(String filePath, String sheetName) {
         String cacheKey = filePath + ":" + sheetName;
         
-        if (cachedData.containsKey(cacheKey)) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> cached = (List<Map<String, Object>>) cachedData.get(cacheKey);
-            return new ArrayList<>(cached);
+        // Cache.get makes concurrent callers for the same sheet share a single parse
+        try {
+            return cachedData.get(cacheKey, () -> new SheetData(loadExcelFile(filePath, sheetName)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException("Failed to load test data: " + cacheKey, cause);
         }
+    }
+    
+    /**
+     * Cached sheet: read-only rows, their estimated heap size and lazily built column indexes
+     */
+    private static final class SheetData {
+        private final List<Map<String, Object>> rows;
+        private final int estimatedBytes;
+        private final Map<String, Map<Object, List<Map<String, Object>>>> indexes = new ConcurrentHashMap<>();
         
-        List<Map<String, Object>> data = readExcelFile(filePath, sheetName);
-        cachedData.put(cacheKey, new ArrayList<>(data));
-        return data;
+        private SheetData(List<Map<String, Object>> loaded) {
+            List<Map<String, Object>> readOnly = new ArrayList<>(loaded.size());
+            long bytes = 64;
+            for (Map<String, Object> row : loaded) {
+                readOnly.add(Collections.unmodifiableMap(row));
+                bytes += estimateBytes(row);
+            }
+            this.rows = Collections.unmodifiableList(readOnly);
+            this.estimatedBytes = (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
+    
+    /**
+     * Rough heap footprint of a row map: map and entry overhead plus values (header strings are shared)
+     */
+    private static long estimateBytes(Map<String, Object> row) {
+        long bytes = 64 + 40L * row.size();
+        for (Object value : row.values()) {
+            if (value instanceof String) {
+                bytes += 40 + ((String) value).length();
+            } else if (value instanceof Date) {
+                bytes += 24;
+            } else if (value != null && !(value instanceof Boolean)) {
+                bytes += 16;
+            }
+        }
+        return bytes;
+    }
+    
+    private static Map<Object, List<Map<String, Object>>> buildColumnIndex(List<Map<String, Object>> rows,
+                                                                         String columnName) {
+        Map<Object, List<Map<String, Object>>> index = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            Object value = row.get(columnName);
+            if (value != null) {
+                index.computeIfAbsent(value, key -> new ArrayList<>()).add(row);
+            }
+        }
+        index.replaceAll((value, matches) -> Collections.unmodifiableList(matches));
+        return Collections.unmodifiableMap(index);
+    }
+    
+    /**
+     * Load a whole sheet through the on-disk parsed data cache; POI only runs when the file changed.
+     * Only used by the random-access lookups, which need every row anyway; data providers stream instead.
+     */
+    private List<Map<String, Object>> loadExcelFile(String filePath, String sheetName) {
+        return ParsedDataCache.getInstance().getOrLoad(Paths.get(filePath), "xlsx:" + sheetName, () -> {
+            if (!config.isExcelStreamingEnabled()) {
+                return readExcelFile(filePath, sheetName);
+            }
+            try (Stream<Map<String, Object>> rows = streamExcelFile(filePath, sheetName)) {
+                return rows.collect(Collectors.toList());
+            }
+        });
     }
     
     /**
@@ -191,21 +306,12 @@ public class TestDataManager {
     }
     
     /**
-     * Get test data by condition
+     * Get test data by condition (hash lookup in the column index, read-only result)
      */
     public List<Map<String, Object>> getTestDataByCondition(String filePath, String sheetName, 
                                                            String columnName, Object expectedValue) {
-        List<Map<String, Object>> allData = getTestDataFromExcel(filePath, sheetName);
-        List<Map<String, Object>> filteredData = new ArrayList<>();
-        
-        for (Map<String, Object> row : allData) {
-            Object value = row.get(columnName);
-            if (expectedValue.equals(value)) {
-                filteredData.add(row);
-            }
-        }
-        
-        return filteredData;
+        return getColumnIndex(filePath, sheetName, columnName)
+                .getOrDefault(expectedValue, Collections.emptyList());
     }
     
     /**
@@ -218,8 +324,7 @@ public class TestDataManager {
             throw new RuntimeException("No test data found in sheet: " + sheetName);
         }
         
-        Random random = new Random();
-        int randomIndex = random.nextInt(allData.size());
+        int randomIndex = TestDataContext.current().nextInt(allData.size());
         return allData.get(randomIndex);
     }
     
@@ -234,24 +339,29 @@ public class TestDataManager {
      * Get all test scenarios
      */
     public List<String> getAllTestScenarios(String filePath, String sheetName) {
-        List<Map<String, Object>> allData = getTestDataFromExcel(filePath, sheetName);
         Set<String> scenarios = new HashSet<>();
-        
-        for (Map<String, Object> row : allData) {
-            Object scenario = row.get("scenario");
-            if (scenario != null) {
-                scenarios.add(scenario.toString());
-            }
+        for (Object scenario : getColumnIndex(filePath, sheetName, "scenario").keySet()) {
+            scenarios.add(scenario.toString());
         }
         
         return new ArrayList<>(scenarios);
     }
     
     /**
-     * Get test data for data-driven testing
+     * Get test data for data-driven testing.
+     * With testdata.excel.streaming=true (default) a sheet that is not already cached in memory is streamed
+     * and only the requested columns are kept, so large sheets never go through the sheet caches;
+     * otherwise rows come from the cached sheet.
      */
     public Object[][] getTestDataForDataProvider(String filePath, String sheetName, String... columnNames) {
-        List<Map<String, Object>> allData = getTestDataFromExcel(filePath, sheetName);
+        SheetData cached = cachedData.getIfPresent(filePath + ":" + sheetName);
+        if (cached == null && config.isExcelStreamingEnabled()) {
+            try (Stream<Map<String, Object>> rows = streamExcelFile(filePath, sheetName)) {
+                return rows.map(row -> selectColumns(row, columnNames)).toArray(Object[][]::new);
+            }
+        }
+        
+        List<Map<String, Object>> allData = cached != null ? cached.rows : getTestDataFromExcel(filePath, sheetName);
         Object[][] dataProvider = new Object[allData.size()][columnNames.length];
         
         for (int i = 0; i < allData.size(); i++) {
@@ -264,6 +374,44 @@ public class TestDataManager {
         return dataProvider;
     }
     
+    /**
+     * Get test data for a lazy TestNG data provider: rows are read as the tests consume them.
+     * Return it from a {@code @DataProvider} declared as {@code Iterator<Object[]>}.
+     * The reader is closed once the last row is read or reading fails.
+     */
+    public Iterator<Object[]> iterateTestDataForDataProvider(String filePath, String sheetName, String... columnNames) {
+        StreamingExcelReader reader = iterateExcelFile(filePath, sheetName);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                boolean hasNext;
+                try {
+                    hasNext = reader.hasNext();
+                } catch (RuntimeException e) {
+                    reader.close();
+                    throw e;
+                }
+                if (!hasNext) {
+                    reader.close();
+                }
+                return hasNext;
+            }
+            
+            @Override
+            public Object[] next() {
+                return selectColumns(reader.next(), columnNames);
+            }
+        };
+    }
+    
+    private static Object[] selectColumns(Map<String, Object> row, String... columnNames) {
+        Object[] values = new Object[columnNames.length];
+        for (int j = 0; j < columnNames.length; j++) {
+            values[j] = row.get(columnNames[j]);
+        }
+        return values;
+    }
+    
     /**
      * Write test data to Excel file
      */
@@ -312,6 +460,56 @@ public class TestDataManager {
         }
     }
     
+    /**
+     * Write rows to an Excel file with constant memory (SXSSF): only the last testdata.excel.write.window
+     * rows stay on the heap, older rows are spooled to a compressed temp file. Headers come from the first
+     * row and columns are not auto-sized. Returns the number of data rows written.
+     */
+    public long writeTestDataToExcel(String filePath, String sheetName, Iterator<? extends Map<String, Object>> data) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(config.getExcelWriteWindow());
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(sheetName);
+            long rowCount = 0;
+            
+            if (data.hasNext()) {
+                Map<String, Object> rowData = data.next();
+                List<String> headers = new ArrayList<>(rowData.keySet());
+                Row headerRow = sheet.createRow(0);
+                for (int colIndex = 0; colIndex < headers.size(); colIndex++) {
+                    headerRow.createCell(colIndex).setCellValue(headers.get(colIndex));
+                }
+                
+                while (rowData != null) {
+                    Row row = sheet.createRow((int) ++rowCount);
+                    for (int colIndex = 0; colIndex < headers.size(); colIndex++) {
+                        setCellValue(row.createCell(colIndex), rowData.get(headers.get(colIndex)));
+                    }
+                    rowData = data.hasNext() ? data.next() : null;
+                }
+            }
+            
+            try (java.io.FileOutputStream fos = new java.io.FileOutputStream(filePath)) {
+                workbook.write(fos);
+            }
+            return rowCount;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write Excel file: " + filePath, e);
+        } finally {
+            // deletes the spooled temp files
+            workbook.dispose();
+        }
+    }
+    
+    /**
+     * Write a stream of rows to an Excel file with constant memory; see the Iterator variant
+     */
+    public long writeTestDataToExcel(String filePath, String sheetName, Stream<? extends Map<String, Object>> data) {
+        try (data) {
+            return writeTestDataToExcel(filePath, sheetName, data.iterator());
+        }
+    }
+    
     /**
      * Set cell value with appropriate type
      */
@@ -339,14 +537,21 @@ public class TestDataManager {
      * Clear cache
      */
     public void clearCache() {
-        cachedData.clear();
+        cachedData.invalidateAll();
     }
     
     /**
-     * Get cache size
+     * Get cache size (number of cached sheets)
      */
     public int getCacheSize() {
-        return cachedData.size();
+        return (int) cachedData.size();
+    }
+    
+    /**
+     * Get hit/miss/eviction statistics of the sheet cache
+     */
+    public CacheStats getCacheStats() {
+        return cachedData.stats();
     }
     
     /**
@@ -0,0 +1,242 @@
+package com.hemanth.util;
+
+import com.github.javafaker.Faker;
+import com.hemanth.config.ConfigManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Realistic values (names, emails, addresses, job titles, product names) pre-generated with Java Faker.
+ * <p>
+ * Faker's YAML lookups and regex expansion are far too slow to call per field, so each pool is generated
+ * once, in parallel (a fixed number of seeded Faker chunks, run on up to one thread per CPU), deduplicated
+ * into a string table indexed by int and persisted under datagen.pools.dir. Later runs just load the table;
+ * drawing a value is an array access. The pool contents only depend on datagen.pools.size and
+ * datagen.pools.seed, not on the machine, so picks stay reproducible from the run seed ({@link TestDataContext}).
+ */
+public class ValuePools {
+
+    public enum Pool {
+        FULL_NAME(faker -> faker.name().fullName()),
+        FIRST_NAME(faker -> faker.name().firstName()),
+        LAST_NAME(faker -> faker.name().lastName()),
+        EMAIL(faker -> faker.internet().emailAddress()),
+        STREET_ADDRESS(faker -> faker.address().streetAddress()),
+        CITY(faker -> faker.address().city()),
+        JOB_TITLE(faker -> faker.job().title()),
+        PRODUCT_NAME(faker -> faker.commerce().productName());
+
+        private final Function<Faker, String> generator;
+
+        Pool(Function<Faker, String> generator) {
+            this.generator = generator;
+        }
+    }
+
+    private static final int MAGIC = 0x56504C31; // "VPL1"
+    // version 1 files were chunked per CPU, so their contents depended on the machine
+    private static final int FORMAT_VERSION = 2;
+    // fixed so the generated values do not depend on the CPU count
+    private static final int GENERATION_CHUNKS = 16;
+
+    private final String[][] values;
+    private final boolean generated;
+    private final double loadMillis;
+
+    private ValuePools(String[][] values, boolean generated, double loadMillis) {
+        this.values = values;
+        this.generated = generated;
+        this.loadMillis = loadMillis;
+    }
+
+    private static final class Holder {
+        private static final ValuePools INSTANCE = loadOrGenerate(
+                Paths.get(ConfigManager.getInstance().getValuePoolsDir()),
+                ConfigManager.getInstance().getValuePoolsSize(),
+                ConfigManager.getInstance().getValuePoolsSeed());
+    }
+
+    private static final class EnabledHolder {
+        private static final boolean ENABLED = ConfigManager.getInstance().isValuePoolsEnabled();
+    }
+
+    /**
+     * Get the pools configured by datagen.pools.*, generating and persisting them on first use
+     */
+    public static ValuePools getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Whether builders should draw from the pools (datagen.pools.enabled, read once) instead of their built-in lists
+     */
+    public static boolean isEnabled() {
+        return EnabledHolder.ENABLED;
+    }
+
+    /**
+     * Load the pools persisted in {@code dir} for this size and seed, or generate and persist them
+     */
+    public static ValuePools loadOrGenerate(Path dir, int size, long seed) {
+        long start = System.nanoTime();
+        Path file = dir.resolve("value-pools-" + size + "-" + seed + ".bin");
+        String[][] values = read(file);
+        boolean generated = values == null;
+        if (generated) {
+            values = generate(size, seed);
+            write(file, values);
+        }
+        return new ValuePools(values, generated, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Random value of a pool from the current test's seeded stream
+     */
+    public String pick(Pool pool) {
+        return pick(pool, TestDataContext.current());
+    }
+
+    public String pick(Pool pool, SplittableRandom random) {
+        String[] table = values[pool.ordinal()];
+        return table[random.nextInt(table.length)];
+    }
+
+    public String get(Pool pool, int index) {
+        return values[pool.ordinal()][index];
+    }
+
+    /**
+     * Number of distinct values in a pool
+     */
+    public int size(Pool pool) {
+        return values[pool.ordinal()].length;
+    }
+
+    /**
+     * True if the pools were generated with Faker in this JVM, false if loaded from disk
+     */
+    public boolean wasGenerated() {
+        return generated;
+    }
+
+    public double getLoadMillis() {
+        return loadMillis;
+    }
+
+    private static String[][] generate(int size, long seed) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be >= 1, got " + size);
+        }
+        Pool[] pools = Pool.values();
+        int chunks = Math.min(size, GENERATION_CHUNKS);
+
+        // Faker is not thread-safe: one seeded instance per chunk, chunks collected in order
+        List<List<List<String>>> generatedChunks = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Faker faker = new Faker(new Random(seed * 31 + chunk));
+                    int count = size * (chunk + 1) / chunks - size * chunk / chunks;
+                    List<List<String>> chunkValues = new ArrayList<>(pools.length);
+                    for (Pool pool : pools) {
+                        chunkValues.add(new ArrayList<>(count));
+                        for (int i = 0; i < count; i++) {
+                            chunkValues.get(pool.ordinal()).add(pool.generator.apply(faker));
+                        }
+                    }
+                    return chunkValues;
+                })
+                .collect(Collectors.toList());
+
+        String[][] values = new String[pools.length][];
+        for (Pool pool : pools) {
+            Set<String> distinct = new LinkedHashSet<>();
+            for (List<List<String>> chunkValues : generatedChunks) {
+                distinct.addAll(chunkValues.get(pool.ordinal()));
+            }
+            values[pool.ordinal()] = distinct.toArray(new String[0]);
+        }
+        return values;
+    }
+
+    private static String[][] read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            Pool[] pools = Pool.values();
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readInt() != pools.length) {
+                return null;
+            }
+            String[][] values = new String[pools.length][];
+            for (Pool pool : pools) {
+                if (!pool.name().equals(in.readUTF())) {
+                    return null; // pool set changed, regenerate
+                }
+                String[] table = new String[in.readInt()];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = in.readUTF();
+                }
+                values[pool.ordinal()] = table;
+            }
+            return values;
+        } catch (IOException e) {
+            return null; // truncated or corrupt file, regenerate
+        }
+    }
+
+    private static void write(Path file, String[][] values) {
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // write to a temp file and move, so a concurrent fork never reads a half-written file
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                Pool[] pools = Pool.values();
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(pools.length);
+                for (Pool pool : pools) {
+                    out.writeUTF(pool.name());
+                    out.writeInt(values[pool.ordinal()].length);
+                    for (String value : values[pool.ordinal()]) {
+                        out.writeUTF(value);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the pools still work for this run, they are just regenerated next time
+            System.err.println("Could not persist value pools to " + file + ": " + e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            // left in datagen.pools.dir, never read because of the .tmp suffix
+        }
+    }
+}